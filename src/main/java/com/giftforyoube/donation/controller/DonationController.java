@@ -1,10 +1,11 @@
 package com.giftforyoube.donation.controller;
 
+import com.giftforyoube.donation.dto.DonationCursorResponseDto;
 import com.giftforyoube.donation.dto.DonationInfoResponseDto;
 import com.giftforyoube.donation.dto.DonationRankingResponseDto;
 import com.giftforyoube.donation.dto.ReadyDonationDto;
-import com.giftforyoube.donation.entity.Donation;
 import com.giftforyoube.donation.service.DonationService;
+import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponse;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.global.security.UserDetailsImpl;
@@ -18,7 +19,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -59,6 +59,9 @@ public class DonationController {
 
             return ResponseEntity.status(HttpStatus.OK)
                     .body(new BaseResponse<>(BaseResponseStatus.DONATION_READY_SUCCESS, responseDto));
+        } catch (BaseException e) {
+            // 결제 서비스 차단(서킷 브레이커, 벌크헤드)은 ExceptionHandler에서 상태 코드와 함께 응답
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new BaseResponse<>(BaseResponseStatus.DONATION_READY_FAILED));
@@ -74,15 +77,13 @@ public class DonationController {
             String sponsorNickname = (String) session.getAttribute("sponsorNickname");
             String sponsorComment = (String) session.getAttribute("sponsorComment");
 
+            // 후원 반영과 알림 발송은 승인 이후 비동기로 처리
             donationService.approveDonation(tid, pgToken, sponsorNickname, sponsorComment, fundingId, userDetails);
-            // 후원 결제 승인 시 알람 발송
-            try {
-                donationService.sendDonationNotification(sponsorNickname, fundingId);
-            } catch (Exception e) {
-                log.error("SSE 알림 error: ", e);
-            }
             return ResponseEntity.status(HttpStatus.OK)
                     .body(new BaseResponse<>(BaseResponseStatus.DONATION_APPROVE_SUCCESS, fundingId));
+        } catch (BaseException e) {
+            // 결제 서비스 차단(서킷 브레이커, 벌크헤드)은 ExceptionHandler에서 상태 코드와 함께 응답
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new BaseResponse<>(BaseResponseStatus.DONATION_APPROVE_FAILED, fundingId));
@@ -106,18 +107,17 @@ public class DonationController {
     // 4-1. 후원 정보 리스트 조회
     @GetMapping("/funding/{id}/donations")
     public ResponseEntity<BaseResponse<List<DonationInfoResponseDto>>> getDonationsByFundingId(@PathVariable("id") Long fundingId) {
-        List<Donation> donations = donationService.getDonationsByFundingId(fundingId);
-        List<DonationInfoResponseDto> donationResponseDtos = mapDonationEntitiesToResponseDtos(donations);
+        List<DonationInfoResponseDto> donationResponseDtos = donationService.getDonationsByFundingId(fundingId);
         BaseResponse<List<DonationInfoResponseDto>> baseResponse = new BaseResponse<>(BaseResponseStatus.SUCCESS, donationResponseDtos);
         return ResponseEntity.status(HttpStatus.OK).body(baseResponse);
     }
 
-    private List<DonationInfoResponseDto> mapDonationEntitiesToResponseDtos(List<Donation> donations) {
-        return donations.stream()
-                .map(donation -> new DonationInfoResponseDto(
-                        donation.getSponsorNickname(),
-                        donation.getSponsorComment(),
-                        donation.getDonationRanking()))
-                .collect(Collectors.toList());
+    // 4-2. 커서 페이지네이션으로 후원 정보 리스트 조회 (첫 페이지는 cursor 생략)
+    @GetMapping("/funding/{id}/donations/cursor")
+    public ResponseEntity<BaseResponse<DonationCursorResponseDto>> getDonationsByFundingIdAndCursor(@PathVariable("id") Long fundingId,
+                                                                                                    @RequestParam(defaultValue = "") String cursor,
+                                                                                                    @RequestParam(defaultValue = "20") int size) {
+        DonationCursorResponseDto donations = donationService.getDonationsByFundingId(fundingId, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(new BaseResponse<>(BaseResponseStatus.SUCCESS, donations));
     }
 }
\ No newline at end of file
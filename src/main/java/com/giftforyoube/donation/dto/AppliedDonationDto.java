@@ -0,0 +1,16 @@
+package com.giftforyoube.donation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// DB에 반영된 후원 : 커밋 이후 캐시 / 통계 / 알림 처리에 사용
+@Getter
+@AllArgsConstructor
+public class AppliedDonationDto {
+    private Long fundingId;
+    private String sponsorNickname;
+    private String sponsorComment;
+    private int donationAmount;
+    private int donationRanking;
+    private boolean targetReached;
+}
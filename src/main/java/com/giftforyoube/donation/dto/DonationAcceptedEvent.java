@@ -0,0 +1,11 @@
+package com.giftforyoube.donation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 결제 승인 후 outbox에 기록된 후원 (워커가 비동기로 반영)
+@Getter
+@AllArgsConstructor
+public class DonationAcceptedEvent {
+    private Long outboxId;
+}
@@ -0,0 +1,15 @@
+package com.giftforyoube.donation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 후원 목록 커서 페이지네이션 응답 : nextCursor는 마지막 후원 랭킹, 다음 페이지가 없다면 null
+@Getter
+@AllArgsConstructor
+public class DonationCursorResponseDto {
+    private List<DonationInfoResponseDto> content;
+    private String nextCursor;
+    private boolean last;
+}
@@ -10,6 +10,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        // 펀딩별 후원 목록 커서 페이지네이션, 마지막 랭킹 조회
+        @Index(name = "idx_donation_funding_ranking", columnList = "funding_id, donation_ranking")
+})
 public class Donation {
 
     @Id
@@ -0,0 +1,88 @@
+package com.giftforyoube.donation.entity;
+
+import com.giftforyoube.global.entity.Auditable;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 결제 승인 요청 전에 후원을 DB에 먼저 기록해두고(APPROVING), 승인되면 반영 대기(PENDING)로 바꿔 금액 / 통계 / 캐시 / 알림 반영은 워커가 처리
+// tid(결제 고유 번호)가 유일하므로 같은 결제를 여러 번 승인 요청해도 한 요청만 기록하고 결제 승인을 요청함
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = {
+        // 반영되지 않은 후원 재시도 조회
+        @Index(name = "idx_donation_outbox_status_created", columnList = "status, created_at")
+})
+public class DonationOutbox extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String tid;
+
+    @Column(nullable = false)
+    private Long fundingId;
+
+    private Long userId;
+
+    private String sponsorNickname;
+
+    private String sponsorComment;
+
+    @Column(nullable = false)
+    private int donationAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DonationOutboxStatus status;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Builder
+    public DonationOutbox(String tid, Long fundingId, Long userId, String sponsorNickname,
+                          String sponsorComment, int donationAmount) {
+        this.tid = tid;
+        this.fundingId = fundingId;
+        this.userId = userId;
+        this.sponsorNickname = sponsorNickname;
+        this.sponsorComment = sponsorComment;
+        this.donationAmount = donationAmount;
+        this.status = DonationOutboxStatus.APPROVING;
+    }
+
+    // 결제 승인 완료, 승인된 금액을 기록하고 반영 대기
+    public void markApproved(int donationAmount) {
+        this.donationAmount = donationAmount;
+        this.status = DonationOutboxStatus.PENDING;
+    }
+
+    // 결제 승인 실패, 승인 여부를 알 수 없는 실패(응답 시간 초과 등)도 있으므로 삭제하지 않고 tid로 확인할 수 있도록 남김
+    public void markApprovalFailed(String error) {
+        this.lastError = truncate(error);
+        this.status = DonationOutboxStatus.FAILED;
+    }
+
+    public void markDone() {
+        this.status = DonationOutboxStatus.DONE;
+    }
+
+    // 반영 실패 기록, 최대 시도 횟수에 도달하면 더 이상 재시도하지 않음
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        if (this.attempts >= maxAttempts) {
+            this.status = DonationOutboxStatus.FAILED;
+        }
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
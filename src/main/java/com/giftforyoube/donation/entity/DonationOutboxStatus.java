@@ -0,0 +1,8 @@
+package com.giftforyoube.donation.entity;
+
+public enum DonationOutboxStatus {
+    APPROVING, // tid 선점, 결제 승인 요청 중
+    PENDING, // 결제 승인 완료, 후원 반영 대기
+    DONE, // 후원 반영 완료
+    FAILED // 결제 승인 실패 또는 재시도 횟수 초과
+}
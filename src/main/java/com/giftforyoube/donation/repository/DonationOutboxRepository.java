@@ -0,0 +1,28 @@
+package com.giftforyoube.donation.repository;
+
+import com.giftforyoube.donation.entity.DonationOutbox;
+import com.giftforyoube.donation.entity.DonationOutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DonationOutboxRepository extends JpaRepository<DonationOutbox, Long> {
+
+    // 후원 반영 중 다른 워커가 같은 후원을 반영하지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM DonationOutbox o WHERE o.id = :id")
+    Optional<DonationOutbox> findByIdForUpdate(@Param("id") Long id);
+
+    // 재시도 대상 : 일정 시간 이상 반영되지 않은 후원
+    @Query("SELECT o.id FROM DonationOutbox o WHERE o.status = :status AND o.createdAt < :before ORDER BY o.id ASC")
+    List<Long> findIdsByStatusAndCreatedAtBefore(@Param("status") DonationOutboxStatus status,
+                                                 @Param("before") LocalDateTime before,
+                                                 Pageable pageable);
+}
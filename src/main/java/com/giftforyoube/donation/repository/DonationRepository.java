@@ -1,13 +1,29 @@
 package com.giftforyoube.donation.repository;
 
+import com.giftforyoube.donation.dto.DonationInfoResponseDto;
 import com.giftforyoube.donation.entity.Donation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface DonationRepository extends JpaRepository<Donation, Long> {
 
-    List<Donation> findByFundingIdOrderByDonationRankingDesc(Long fundingId);
+    // 펀딩의 마지막 후원 랭킹 (후원이 없다면 0)
+    @Query("SELECT COALESCE(MAX(d.donationRanking), 0) FROM Donation d WHERE d.funding.id = :fundingId")
+    int findMaxDonationRankingByFundingId(@Param("fundingId") Long fundingId);
 
-    List<Donation> findByFundingId(Long fundingId);
+    // 후원 목록 : 엔티티 대신 응답 DTO로 바로 조회 (랭킹 순)
+    @Query("SELECT new com.giftforyoube.donation.dto.DonationInfoResponseDto(d.sponsorNickname, d.sponsorComment, d.donationRanking) " +
+            "FROM Donation d WHERE d.funding.id = :fundingId ORDER BY d.donationRanking ASC")
+    List<DonationInfoResponseDto> findInfoByFundingId(@Param("fundingId") Long fundingId);
+
+    // 후원 목록 커서 페이지네이션 : 이전 페이지 마지막 랭킹 다음부터 조회 (OFFSET / COUNT 없음)
+    @Query("SELECT new com.giftforyoube.donation.dto.DonationInfoResponseDto(d.sponsorNickname, d.sponsorComment, d.donationRanking) " +
+            "FROM Donation d WHERE d.funding.id = :fundingId AND d.donationRanking > :ranking ORDER BY d.donationRanking ASC")
+    List<DonationInfoResponseDto> findInfoByFundingIdAfterRanking(@Param("fundingId") Long fundingId,
+                                                                 @Param("ranking") int ranking,
+                                                                 Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.giftforyoube.donation.service;
+
+import com.giftforyoube.donation.dto.AppliedDonationDto;
+import com.giftforyoube.donation.dto.DonationAcceptedEvent;
+import com.giftforyoube.donation.entity.DonationOutboxStatus;
+import com.giftforyoube.donation.repository.DonationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 승인된 후원(DonationOutbox)을 펀딩에 반영합니다.
+ * 승인 직후 비동기로 한 번 처리하고, 서버 재시작 등으로 반영되지 않은 후원은 스케줄러가 주기적으로 다시 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonationOutboxWorker {
+
+    private final DonationService donationService;
+    private final DonationOutboxRepository donationOutboxRepository;
+
+    // 승인 직후의 비동기 처리와 겹치지 않도록 일정 시간이 지난 후원만 재시도
+    private static final long RETRY_DELAY_SECONDS = 30;
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    @Async
+    @EventListener
+    public void onDonationAccepted(DonationAcceptedEvent event) {
+        process(event.getOutboxId());
+    }
+
+    /**
+     * 후원 하나를 반영합니다.
+     * DB 반영이 실패하면 실패를 기록하고 다음 재시도에서 다시 처리하며,
+     * DB 반영 이후의 캐시 / 통계 / 알림 처리 실패는 기록만 합니다.
+     *
+     * @param outboxId 반영할 DonationOutbox의 ID
+     */
+    public void process(Long outboxId) {
+        AppliedDonationDto applied;
+        try {
+            applied = donationService.applyDonation(outboxId);
+        } catch (RuntimeException e) {
+            log.error("[process] 후원 반영 실패: " + outboxId, e);
+            donationService.recordDonationFailure(outboxId, e.getMessage());
+            return;
+        }
+        if (applied == null) {
+            return; // 이미 반영된 후원
+        }
+        try {
+            donationService.completeDonation(applied);
+        } catch (RuntimeException e) {
+            log.error("[process] 후원 반영 이후 처리 실패: " + outboxId, e);
+        }
+    }
+
+    /**
+     * 반영되지 않은 후원을 다시 처리합니다.
+     *
+     * @return 처리를 시도한 후원 수
+     */
+    public int processPending() {
+        List<Long> outboxIds = donationOutboxRepository.findIdsByStatusAndCreatedAtBefore(DonationOutboxStatus.PENDING,
+                LocalDateTime.now().minusSeconds(RETRY_DELAY_SECONDS), PageRequest.of(0, RETRY_BATCH_SIZE));
+        outboxIds.forEach(this::process);
+        return outboxIds.size();
+    }
+}
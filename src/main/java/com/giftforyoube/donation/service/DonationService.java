@@ -1,15 +1,22 @@
 package com.giftforyoube.donation.service;
 
+import com.giftforyoube.donation.dto.AppliedDonationDto;
 import com.giftforyoube.donation.dto.ApproveDonationResponseDto;
+import com.giftforyoube.donation.dto.DonationAcceptedEvent;
+import com.giftforyoube.donation.dto.DonationCursorResponseDto;
+import com.giftforyoube.donation.dto.DonationInfoResponseDto;
 import com.giftforyoube.donation.dto.ReadyDonationDto;
 import com.giftforyoube.donation.entity.Donation;
+import com.giftforyoube.donation.entity.DonationOutbox;
+import com.giftforyoube.donation.entity.DonationOutboxStatus;
+import com.giftforyoube.donation.repository.DonationOutboxRepository;
 import com.giftforyoube.donation.repository.DonationRepository;
 import com.giftforyoube.funding.entity.Funding;
 import com.giftforyoube.funding.entity.FundingStatus;
-import com.giftforyoube.funding.entity.FundingSummary;
 import com.giftforyoube.funding.repository.FundingRepository;
-import com.giftforyoube.funding.repository.FundingSummaryRepository;
 import com.giftforyoube.funding.service.CacheService;
+import com.giftforyoube.funding.service.FundingFeedService;
+import com.giftforyoube.funding.service.FundingSummaryService;
 import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.global.security.UserDetailsImpl;
@@ -17,53 +24,87 @@ import com.giftforyoube.notification.entity.NotificationType;
 import com.giftforyoube.notification.service.NotificationService;
 import com.giftforyoube.user.entity.User;
 import com.giftforyoube.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.RequestEntity;
-import org.springframework.http.ResponseEntity;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.net.URI;
-import java.util.LinkedHashMap;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DonationService {
 
-    private final RestTemplate restTemplate;
+    private final KakaoPayClient kakaoPayClient;
     private final DonationRepository donationRepository;
+    private final DonationOutboxRepository donationOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final UserRepository userRepository;
     private final FundingRepository fundingRepository;
-    private final FundingSummaryRepository fundingSummaryRepository;
+    private final FundingSummaryService fundingSummaryService;
     private final NotificationService notificationService;
     private final CacheService cacheService;
-
-    @Value("${kakaopay.cid}")
-    private String cid;
-    @Value("${kakaopay.secret.key}")
-    private String secretKey;
-    @Value("${kakaopay.approve.redirect.url}")
-    private String approveRedirectUrl;
-    @Value("${kakaopay.cancel.redirect.url}")
-    private String cancelRedirectUrl;
-    @Value("${kakaopay.fail.redirect.url}")
-    private String failRedirectUrl;
+    private final FundingFeedService fundingFeedService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    // 펀딩별 마지막으로 부여된 후원 랭킹 (INCR로 원자적으로 다음 랭킹 발급)
+    private static final String DONATION_RANKING_KEY_PREFIX = "donationRanking:";
+    // 랭킹 키가 없을 때 DB의 마지막 랭킹으로 채우는 동안만 잡는 락
+    private static final String DONATION_RANKING_LOCK_PREFIX = "donationRankingLock:";
+    private static final long RANKING_LOCK_WAIT_MILLIS = 3000;
+    private static final long RANKING_LOCK_LEASE_MILLIS = 5000;
+    // 후원 목록 첫 페이지 캐시 (Redis List, 후원 발생 시 뒤에 추가)
+    private static final String DONATION_FIRST_PAGE_KEY_PREFIX = "donationFirstPage:";
+    private static final Duration DONATION_FIRST_PAGE_TTL = Duration.ofMinutes(10);
+    // 첫 페이지 캐시 버전 (후원 추가마다 INCR, DB에서 읽는 동안 후원이 추가되었다면 읽은 페이지를 캐시하지 않음)
+    private static final String DONATION_FIRST_PAGE_VERSION_KEY_PREFIX = "donationFirstPageVersion:";
+    // 조회 전에 읽은 버전이 그대로이고 캐시가 없을 때만 첫 페이지 저장
+    private static final RedisScript<Long> CACHE_FIRST_PAGE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('RPUSH', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+    // 버전을 올리고 캐시가 있을 때만 새 후원 추가
+    private static final RedisScript<Long> APPEND_FIRST_PAGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "return redis.call('RPUSHX', KEYS[1], ARGV[1])", Long.class);
+    private static final int DONATION_PAGE_SIZE = 20;
+    private static final int MAX_DONATION_PAGE_SIZE = 100;
+    // 후원 반영 최대 시도 횟수 (초과 시 FAILED로 남기고 재시도하지 않음)
+    private static final int MAX_DONATION_APPLY_ATTEMPTS = 5;
 
     /**
      * 1. 후원 랭킹 조회
+     * 다음 후원자가 받게 될 랭킹을 펀딩별 랭킹 키 하나만 읽어 반환합니다.
+     * 키가 없다면 DB의 마지막 랭킹으로 계산만 하고, 키 초기화는 후원 반영에서만 합니다.
      *
      * @param fundingId 펀딩 ID
      * @return 후원 랭킹
      */
     public int getDonationRanking(Long fundingId) {
-        return calculateDonationRanking(fundingId);
+        String lastRanking = redisTemplate.opsForValue().get(buildDonationRankingKey(fundingId));
+        if (lastRanking == null) {
+            return donationRepository.findMaxDonationRankingByFundingId(fundingId) + 1;
+        }
+        return Integer.parseInt(lastRanking) + 1;
     }
 
     /**
@@ -75,18 +116,7 @@ public class DonationService {
     public ReadyDonationDto.ReadyDonationResponseDto readyDonation(ReadyDonationDto.ReadyDonationRequestDto requestDto) {
         log.info("[readyDonation] 후원 결제 준비 시도");
 
-        URI uri = buildUri("/online/v1/payment/ready");
-        HttpHeaders httpHeaders = buildHeaders();
-        Map<String, Object> body = buildReadyRequestBody(requestDto.getDonation());
-
-        RequestEntity<Map<String, Object>> requestEntity = RequestEntity
-                .post(uri)
-                .headers(httpHeaders)
-                .body(body);
-
-        ResponseEntity<ReadyDonationDto.ReadyDonationResponseDto> responseEntity =
-                restTemplate.exchange(requestEntity, ReadyDonationDto.ReadyDonationResponseDto.class);
-        ReadyDonationDto.ReadyDonationResponseDto responseBody = responseEntity.getBody();
+        ReadyDonationDto.ReadyDonationResponseDto responseBody = kakaoPayClient.ready(requestDto.getDonation());
 
         log.info("[readyDonation] 후원 결제 준비 완료");
 
@@ -99,6 +129,10 @@ public class DonationService {
 
     /**
      * 2-2. 후원 결제 승인
+     * 결제 승인 요청 전에 tid로 outbox를 먼저 기록(APPROVING)하고, 승인되면 반영 대기(PENDING)로 바꾼 뒤 바로 반환합니다.
+     * 후원 금액, 통계, 캐시, 알림 반영은 워커(DonationOutboxWorker)가 비동기로 처리합니다.
+     * tid가 유일하므로 같은 결제로 동시에 여러 번 요청해도 기록에 성공한 한 요청만 결제 승인을 요청하고,
+     * 결제가 승인되었다면 기록이 남아 있으므로 이후 저장에 실패해도 tid로 확인할 수 있습니다.
      *
      * @param tid 결제 고유 번호
      * @param pgToken 결제 승인 요청을 인증하는 토큰
@@ -111,162 +145,330 @@ public class DonationService {
                                 String sponsorNickname, String sponsorComment,
                                 Long fundingId, UserDetailsImpl userDetails) {
         log.info("[approveDonation] 후원 결제 승인 시도");
+        DonationOutbox outbox = DonationOutbox.builder()
+                .tid(tid)
+                .fundingId(fundingId)
+                .userId(userDetails == null ? null : userDetails.getUser().getId())
+                .sponsorNickname(sponsorNickname)
+                .sponsorComment(sponsorComment)
+                .build();
+        try {
+            donationOutboxRepository.saveAndFlush(outbox);
+        } catch (DataIntegrityViolationException e) {
+            log.info("[approveDonation] 이미 승인 요청된 결제: " + tid);
+            return;
+        }
 
-        URI uri = buildUri("/online/v1/payment/approve");
-        HttpHeaders headers = buildHeaders();
-        Map<String, Object> body = buildApproveRequestBody(tid, pgToken);
-
-        RequestEntity<Map<String, Object>> requestEntity = RequestEntity
-                .post(uri)
-                .headers(headers)
-                .body(body);
-
-        ResponseEntity<ApproveDonationResponseDto> responseEntity =
-                restTemplate.exchange(requestEntity, ApproveDonationResponseDto.class);
-        ApproveDonationResponseDto approveDonationResponseDto = responseEntity.getBody();
+        ApproveDonationResponseDto approveDonationResponseDto;
+        try {
+            approveDonationResponseDto = kakaoPayClient.approve(tid, pgToken);
+        } catch (BaseException e) {
+            // 서킷 차단, 동시 호출 수 초과 : 결제 승인을 요청하지 않았으므로 선점을 풀어 다시 시도할 수 있도록 함
+            donationOutboxRepository.delete(outbox);
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("[approveDonation] 결제 승인 실패: " + tid, e);
+            outbox.markApprovalFailed(e.getMessage());
+            donationOutboxRepository.save(outbox);
+            throw e;
+        }
 
-        saveDonationInfo(sponsorNickname, sponsorComment,
-                approveDonationResponseDto.getAmount().getTotal(), fundingId, userDetails);
+        outbox.markApproved(approveDonationResponseDto.getAmount().getTotal());
+        try {
+            donationOutboxRepository.save(outbox);
+        } catch (RuntimeException e) {
+            log.error("[approveDonation] 결제 승인 후 상태 저장 실패, 확인 필요: " + tid
+                    + ", 금액 " + outbox.getDonationAmount(), e);
+            throw e;
+        }
+        eventPublisher.publishEvent(new DonationAcceptedEvent(outbox.getId()));
         log.info("[approveDonation] 후원 결제 승인 완료");
     }
 
     /**
-     * 3. 후원 정보 저장 및 관련 처리 진행
+     * 3-1. 후원 정보 저장 및 펀딩 금액 반영
+     * outbox 잠금, 후원 저장, 누적 금액 반영, 반영 완료 표시를 한 트랜잭션으로 처리하므로
+     * 재시도하거나 여러 워커가 동시에 처리해도 한 번만 반영됩니다.
      *
-     * @param sponsorNickname 후원자 닉네임
-     * @param sponsorComment 후원자 코멘트
-     * @param donationAmount 후원 금액
-     * @param fundingId 펀딩 ID
-     * @param userDetails 현재 유저의 UserDetailsImpl 객체
+     * @param outboxId 반영할 DonationOutbox의 ID
+     * @return 반영된 후원, 이미 반영되었거나 실패 처리된 후원이라면 null
      */
-    private void saveDonationInfo(String sponsorNickname, String sponsorComment,
-                                  int donationAmount, Long fundingId, UserDetailsImpl userDetails) {
+    @Transactional
+    public AppliedDonationDto applyDonation(Long outboxId) {
+        DonationOutbox outbox = donationOutboxRepository.findByIdForUpdate(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != DonationOutboxStatus.PENDING) {
+            return null;
+        }
+        Long fundingId = outbox.getFundingId();
+
         // fundingId 기반 펀딩 확인
         Funding funding = fundingRepository.findById(fundingId)
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.FUNDING_NOT_FOUND));
 
         // 후원 유저 확인
         User user = null;
-        if (userDetails != null) {
-            Long userId = userDetails.getUser().getId();
-            user = userRepository.findById(userId).orElse(null);
+        if (outbox.getUserId() != null) {
+            user = userRepository.findById(outbox.getUserId()).orElse(null);
         }
 
         // 후원 생성 및 DB 내 저장
         Donation donation = Donation.builder()
-                .sponsorNickname(sponsorNickname)
-                .sponsorComment(sponsorComment)
-                .donationAmount(donationAmount)
+                .sponsorNickname(outbox.getSponsorNickname())
+                .sponsorComment(outbox.getSponsorComment())
+                .donationAmount(outbox.getDonationAmount())
                 .donationRanking(calculateDonationRanking(fundingId))
                 .funding(funding)
                 .user(user)
                 .build();
         donationRepository.save(donation);
 
-        // 후원 누적 금액 업데이트
-        int currentAmount = funding.getCurrentAmount() + donationAmount;
-        funding.setCurrentAmount(currentAmount);
-        fundingRepository.save(funding);
+        // 아래 일괄 UPDATE가 영속성 컨텍스트를 비우므로 완료 표시를 먼저 반영
+        outbox.markDone();
+        donationOutboxRepository.saveAndFlush(outbox);
 
-        // 펀딩 상태에 따라 통계 업데이트 및 알림 발송
-        if (funding.getStatus().equals(FundingStatus.FINISHED)) {
+        // 후원 누적 금액 업데이트 (DB에서 원자적으로 더하고, 목표 금액 달성 시 종료)
+        fundingRepository.addDonationAmount(fundingId, outbox.getDonationAmount());
+        boolean targetReached = fundingRepository.finishIfTargetReached(fundingId, FundingStatus.ACTIVE, FundingStatus.FINISHED) == 1;
+
+        return new AppliedDonationDto(fundingId, outbox.getSponsorNickname(), outbox.getSponsorComment(),
+                outbox.getDonationAmount(), donation.getDonationRanking(), targetReached);
+    }
+
+    /**
+     * 3-2. 후원 반영 이후 처리 (목록 인덱스, 캐시, 통계, 알림)
+     *
+     * @param applied 반영된 후원
+     */
+    public void completeDonation(AppliedDonationDto applied) {
+        Long fundingId = applied.getFundingId();
+        appendToFirstPageCache(fundingId, new DonationInfoResponseDto(
+                applied.getSponsorNickname(), applied.getSponsorComment(), applied.getDonationRanking()));
+
+        Funding funding = fundingRepository.findById(fundingId)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.FUNDING_NOT_FOUND));
+        fundingFeedService.indexDonation(funding, applied.isTargetReached()); // 달성률 점수 및 종료 시 목록 이동 반영
+
+        // 펀딩 상태에 따라 통계 업데이트 및 알림 발송 (종료 처리는 목표를 넘긴 한 요청에서만)
+        updateStatisticsForNewDonation(applied.getDonationAmount());
+        if (applied.isTargetReached()) {
             updateStatisticsForSuccessfulFunding();
+            // 진행중 -> 종료로 목록 구성이 바뀌므로 전체 펀딩 캐시 무효화
+            cacheService.clearFundingCaches();
+        } else {
+            // 해당 펀딩과 관련된 캐시만 무효화
+            cacheService.evictFunding(fundingId, funding.getUser().getId());
+        }
+
+        sendDonationNotification(applied.getSponsorNickname(), fundingId);
+        if (applied.isTargetReached()) {
             sendSuccessfulNotification(fundingId);
         }
-        updateStatisticsForNewDonation(donationAmount);
-        cacheService.clearFundingCaches();
+    }
+
+    /**
+     * 3-3. 후원 반영 실패 기록
+     *
+     * @param outboxId 반영에 실패한 DonationOutbox의 ID
+     * @param error 실패 사유
+     */
+    @Transactional
+    public void recordDonationFailure(Long outboxId, String error) {
+        donationOutboxRepository.findById(outboxId)
+                .ifPresent(outbox -> outbox.recordFailure(error, MAX_DONATION_APPLY_ATTEMPTS));
     }
 
     /**
      * 4. 후원 랭킹 계산
+     * 펀딩별 랭킹 키를 INCR 하여 동시 후원에도 중복 없이 다음 랭킹을 발급합니다.
+     * (이후 후원 저장에 실패하면 해당 랭킹은 건너뛰게 됨)
      *
      * @param fundingId 펀딩 ID
      * @return 후원 랭킹
      */
     private int calculateDonationRanking(Long fundingId) {
-        List<Donation> donations = donationRepository.findByFundingIdOrderByDonationRankingDesc(fundingId);
-        if (donations.isEmpty()) {
-            return 1;
-        } else {
-            int lastDonationRanking = donations.get(0).getDonationRanking();
-            return lastDonationRanking + 1;
+        String rankingKey = buildDonationRankingKey(fundingId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(rankingKey))) {
+            initDonationRanking(fundingId);
         }
+        Long ranking = redisTemplate.opsForValue().increment(rankingKey);
+        return ranking.intValue();
     }
 
     /**
-     * 5-1. URI 생성
+     * 4-1. 후원 랭킹 키 초기화
+     * 키가 없다면(기존 펀딩, Redis 초기화 등) DB의 마지막 랭킹으로 채웁니다.
+     * 키가 없을 때만 펀딩별 Redisson 락을 짧게 잡고 다시 확인한 뒤 SETNX로 채우므로, 여러 노드가 동시에 DB를 조회하지 않고
+     * 먼저 채워진 값 위로 INCR이 이어집니다. (펀딩 행은 잠그지 않으므로 후원 반영은 직렬화되지 않음)
      *
-     * @param path URI 경로
-     * @return 생성된 URI
+     * @param fundingId 펀딩 ID
      */
-    private URI buildUri(String path) {
-        return UriComponentsBuilder
-                .fromUriString("https://open-api.kakaopay.com")
-                .path(path)
-                .encode()
-                .build()
-                .toUri();
+    private void initDonationRanking(Long fundingId) {
+        String rankingKey = buildDonationRankingKey(fundingId);
+        RLock lock = redissonClient.getLock(DONATION_RANKING_LOCK_PREFIX + fundingId);
+        try {
+            if (!lock.tryLock(RANKING_LOCK_WAIT_MILLIS, RANKING_LOCK_LEASE_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new BaseException(BaseResponseStatus.UNABLE_TO_ACQUIRE_ROCK);
+            }
+            // 락을 기다리는 동안 다른 노드가 채웠다면 DB를 조회하지 않음
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(rankingKey))) {
+                return;
+            }
+            int lastRanking = donationRepository.findMaxDonationRankingByFundingId(fundingId);
+            redisTemplate.opsForValue().setIfAbsent(rankingKey, String.valueOf(lastRanking));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.UNABLE_TO_ACQUIRE_ROCK_INTERRUPT);
+        } finally {
+            if (lock.isLocked() && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private String buildDonationRankingKey(Long fundingId) {
+        return DONATION_RANKING_KEY_PREFIX + fundingId;
     }
 
     /**
-     * 5-2. HTTP 요청 헤더 생성
+     * 6. 펀딩 ID에 해당하는 후원 목록 조회
      *
-     * @return 생성된 HTTP 헤더
+     * @param fundingId 후원을 조회할 펀딩의 ID
+     * @return 펀딩 ID에 해당하는 후원 목록
      */
-    private HttpHeaders buildHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "SECRET_KEY " + secretKey);
-        headers.add("Content-Type", "application/json");
-        return headers;
+    public List<DonationInfoResponseDto> getDonationsByFundingId(Long fundingId) {
+        return donationRepository.findInfoByFundingId(fundingId);
     }
 
     /**
-     * 5-3. 후원 결제 준비 요청 바디 생성
+     * 6-1. 펀딩 ID에 해당하는 후원 목록 커서 페이지 조회
+     * 기본 크기의 첫 페이지는 캐시에서 조회합니다.
      *
-     * @param donationAmount 후원 금액
-     * @return 생성된 요청 바디
+     * @param fundingId 후원을 조회할 펀딩의 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 빈 문자열)
+     * @param size 페이지 크기
+     * @return 후원 목록 페이지
+     */
+    public DonationCursorResponseDto getDonationsByFundingId(Long fundingId, String cursor, int size) {
+        int afterRanking = parseDonationCursor(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_DONATION_PAGE_SIZE);
+
+        List<DonationInfoResponseDto> donations = null;
+        boolean firstPage = afterRanking == 0 && pageSize == DONATION_PAGE_SIZE;
+        if (firstPage) {
+            donations = getCachedFirstPage(fundingId);
+        }
+        if (donations == null) {
+            // DB 조회 중에 추가된 후원이 캐시에서 빠지지 않도록 조회 전의 캐시 버전 기록
+            String version = firstPage ? getFirstPageVersion(fundingId) : null;
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            donations = donationRepository.findInfoByFundingIdAfterRanking(fundingId, afterRanking, PageRequest.of(0, pageSize + 1));
+            if (firstPage) {
+                cacheFirstPage(fundingId, version, donations);
+            }
+        }
+
+        boolean last = donations.size() <= pageSize;
+        List<DonationInfoResponseDto> content = last ? donations : donations.subList(0, pageSize);
+        String nextCursor = last ? null : String.valueOf(content.get(content.size() - 1).getDonationRanking());
+        return new DonationCursorResponseDto(content, nextCursor, last);
+    }
+
+    /**
+     * 6-2. 후원 목록 커서 해석 (빈 문자열은 첫 페이지)
      */
-    private Map<String, Object> buildReadyRequestBody(int donationAmount) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("cid", cid);
-        body.put("partner_order_id", "partner_order_id");
-        body.put("partner_user_id", "partner_user_id");
-        body.put("item_name", "🥧 Giftipie 🥧");
-        body.put("quantity", "1");
-        body.put("total_amount", donationAmount);
-        body.put("vat_amount", "0");
-        body.put("tax_free_amount", "0");
-        body.put("approval_url", approveRedirectUrl);
-        body.put("cancel_url", cancelRedirectUrl);
-        body.put("fail_url", failRedirectUrl);
-        return body;
+    private int parseDonationCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(cursor);
+        } catch (NumberFormatException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_DONATION_CURSOR);
+        }
     }
 
     /**
-     * 5-4. 후원 결제 승인 요청 바디 생성
+     * 6-3. 첫 페이지 캐시 조회
+     * 동시 추가로 순서가 바뀌거나 중복된 항목은 랭킹 기준으로 정리합니다.
      *
-     * @param tid 결제 고유 번호
-     * @param pgToken 결제 승인 요청을 인증하는 토큰
-     * @return 생성된 요청 바디
+     * @return 캐시된 첫 페이지 (기본 크기 + 1건까지), 없거나 읽을 수 없다면 null
      */
-    private Map<String, Object> buildApproveRequestBody(String tid, String pgToken) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("cid", cid);
-        body.put("tid", tid);
-        body.put("partner_order_id", "partner_order_id");
-        body.put("partner_user_id", "partner_user_id");
-        body.put("pg_token", pgToken);
-        return body;
+    private List<DonationInfoResponseDto> getCachedFirstPage(Long fundingId) {
+        List<String> cached = redisTemplate.opsForList().range(buildDonationFirstPageKey(fundingId), 0, -1);
+        if (cached == null || cached.isEmpty()) {
+            return null;
+        }
+        TreeMap<Integer, DonationInfoResponseDto> donations = new TreeMap<>();
+        try {
+            for (String json : cached) {
+                DonationInfoResponseDto donation = objectMapper.readValue(json, DonationInfoResponseDto.class);
+                donations.put(donation.getDonationRanking(), donation);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("[getCachedFirstPage] 후원 목록 캐시 역직렬화 실패, 캐시 미스로 처리: " + fundingId);
+            return null;
+        }
+        List<DonationInfoResponseDto> result = new ArrayList<>(donations.values());
+        return result.size() > DONATION_PAGE_SIZE + 1 ? result.subList(0, DONATION_PAGE_SIZE + 1) : result;
     }
 
     /**
-     * 6. 펀딩 ID에 해당하는 후원 목록 조회
+     * 6-4. DB에서 조회한 첫 페이지를 캐시에 저장 (후원이 없다면 저장하지 않음)
+     * 조회 전에 읽은 버전이 바뀌었거나(조회 중 후원 추가) 다른 요청이 먼저 저장했다면 저장하지 않으므로,
+     * 조회 이후에 추가된 후원이 캐시에서 빠지거나 덮어써지지 않습니다.
      *
-     * @param fundingId 후원을 조회할 펀딩의 ID
-     * @return 펀딩 ID에 해당하는 후원 목록
+     * @param version 조회 전에 읽은 첫 페이지 캐시 버전
+     */
+    private void cacheFirstPage(Long fundingId, String version, List<DonationInfoResponseDto> donations) {
+        if (donations.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(version);
+        args.add(String.valueOf(DONATION_FIRST_PAGE_TTL.toMillis()));
+        try {
+            for (DonationInfoResponseDto donation : donations) {
+                args.add(objectMapper.writeValueAsString(donation));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("[cacheFirstPage] 후원 목록 캐시 직렬화 실패: " + fundingId);
+            return;
+        }
+        redisTemplate.execute(CACHE_FIRST_PAGE_SCRIPT,
+                List.of(buildDonationFirstPageKey(fundingId), buildDonationFirstPageVersionKey(fundingId)), args.toArray());
+    }
+
+    /**
+     * 6-5. 새 후원을 첫 페이지 캐시에 추가
+     * 첫 페이지가 다 차기 전(기본 크기 + 1건)의 후원만 추가하므로, 다 찬 뒤에는 캐시가 바뀌지 않습니다.
+     * 캐시가 없다면 추가하지 않고(RPUSHX) 다음 조회 시 DB에서 채우며, 버전을 올려 진행 중인 조회의 저장을 막습니다.
      */
-    public List<Donation> getDonationsByFundingId(Long fundingId) {
-        return donationRepository.findByFundingId(fundingId);
+    private void appendToFirstPageCache(Long fundingId, DonationInfoResponseDto donation) {
+        if (donation.getDonationRanking() > DONATION_PAGE_SIZE + 1) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(donation);
+            redisTemplate.execute(APPEND_FIRST_PAGE_SCRIPT,
+                    List.of(buildDonationFirstPageKey(fundingId), buildDonationFirstPageVersionKey(fundingId)),
+                    json, String.valueOf(DONATION_FIRST_PAGE_TTL.toMillis()));
+        } catch (JsonProcessingException e) {
+            log.warn("[appendToFirstPageCache] 후원 목록 캐시 직렬화 실패: " + fundingId);
+        }
+    }
+
+    // 첫 페이지 캐시 버전 (후원 추가가 없었다면 "0")
+    private String getFirstPageVersion(Long fundingId) {
+        String version = redisTemplate.opsForValue().get(buildDonationFirstPageVersionKey(fundingId));
+        return version == null ? "0" : version;
+    }
+
+    private String buildDonationFirstPageKey(Long fundingId) {
+        return DONATION_FIRST_PAGE_KEY_PREFIX + fundingId;
+    }
+
+    private String buildDonationFirstPageVersionKey(Long fundingId) {
+        return DONATION_FIRST_PAGE_VERSION_KEY_PREFIX + fundingId;
     }
 
     /**
@@ -307,20 +509,15 @@ public class DonationService {
      *
      * @param donationAmount 후원 금액
      */
-    // 후원 발생시 summary 에 데이터 추가하는 메서드
+    // 후원 발생시 summary 에 데이터 추가하는 메서드 (샤드 행 하나에 원자적으로 누적)
     private void updateStatisticsForNewDonation(int donationAmount) {
-        FundingSummary summary = fundingSummaryRepository.findFirstByOrderByIdAsc().orElse(new FundingSummary());
-        summary.setTotalDonationsCount(summary.getTotalDonationsCount() + 1);
-        summary.setTotalFundingAmount(summary.getTotalFundingAmount() + donationAmount);
-        fundingSummaryRepository.save(summary);
+        fundingSummaryService.addDonation(donationAmount);
     }
 
     /**
      * 8-2. 펀딩 성공 시 통계 업데이트
      */
     private void updateStatisticsForSuccessfulFunding() {
-        FundingSummary summary = fundingSummaryRepository.findFirstByOrderByIdAsc().orElse(new FundingSummary());
-        summary.setSuccessfulFundingsCount(summary.getSuccessfulFundingsCount() + 1);
-        fundingSummaryRepository.save(summary);
+        fundingSummaryService.addSuccessfulFunding();
     }
 }
\ No newline at end of file
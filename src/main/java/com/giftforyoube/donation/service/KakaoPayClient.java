@@ -0,0 +1,191 @@
+package com.giftforyoube.donation.service;
+
+import com.giftforyoube.donation.dto.ApproveDonationResponseDto;
+import com.giftforyoube.donation.dto.ReadyDonationDto;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.RequestEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * KakaoPay 결제 준비 / 승인 API 클라이언트
+ * KakaoPay가 느리거나 장애일 때 서블릿 스레드가 모두 묶이지 않도록 호출을 격리합니다.
+ * - Bulkhead : 동시에 진행할 수 있는 결제 호출 수를 제한하고, 초과 요청은 기다리지 않고 바로 실패
+ * - CircuitBreaker : 실패 / 지연 호출 비율이 높으면 일정 시간 호출을 차단하고, 이후 일부 요청으로 복구 여부를 확인(half-open)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoPayClient {
+
+    private static final String CLIENT_NAME = "kakaoPay";
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kakaopay.base-url:https://open-api.kakaopay.com}")
+    private String baseUrl;
+    @Value("${kakaopay.cid}")
+    private String cid;
+    @Value("${kakaopay.secret.key}")
+    private String secretKey;
+    @Value("${kakaopay.approve.redirect.url}")
+    private String approveRedirectUrl;
+    @Value("${kakaopay.cancel.redirect.url}")
+    private String cancelRedirectUrl;
+    @Value("${kakaopay.fail.redirect.url}")
+    private String failRedirectUrl;
+
+    // 동시에 진행할 수 있는 결제 호출 수
+    @Value("${kakaopay.bulkhead.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+    // 이 시간보다 오래 걸린 호출은 지연 호출로 집계
+    @Value("${kakaopay.circuit-breaker.slow-call-millis:2000}")
+    private long slowCallMillis;
+    // 차단 후 half-open으로 전환하기까지의 시간
+    @Value("${kakaopay.circuit-breaker.open-millis:10000}")
+    private long openMillis;
+
+    private Bulkhead bulkhead;
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMillis))
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMillis(openMillis))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                // 연결 실패, 타임아웃, 5xx만 장애로 집계 (4xx는 요청 문제)
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class)
+                .build());
+        bulkhead = bulkheadRegistry.bulkhead(CLIENT_NAME);
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(CLIENT_NAME);
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("[KakaoPayClient] 서킷 상태 변경: " + event.getStateTransition()));
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * 결제 준비 요청
+     *
+     * @param donationAmount 후원 금액
+     * @return 결제 준비 응답 (tid, 결제 페이지 URL)
+     */
+    public ReadyDonationDto.ReadyDonationResponseDto ready(int donationAmount) {
+        RequestEntity<Map<String, Object>> requestEntity = RequestEntity
+                .post(buildUri("/online/v1/payment/ready"))
+                .headers(buildHeaders())
+                .body(buildReadyRequestBody(donationAmount));
+        return execute(() -> restTemplate.exchange(requestEntity, ReadyDonationDto.ReadyDonationResponseDto.class).getBody());
+    }
+
+    /**
+     * 결제 승인 요청
+     *
+     * @param tid 결제 고유 번호
+     * @param pgToken 결제 승인 요청을 인증하는 토큰
+     * @return 결제 승인 응답 (결제 금액)
+     */
+    public ApproveDonationResponseDto approve(String tid, String pgToken) {
+        RequestEntity<Map<String, Object>> requestEntity = RequestEntity
+                .post(buildUri("/online/v1/payment/approve"))
+                .headers(buildHeaders())
+                .body(buildApproveRequestBody(tid, pgToken));
+        return execute(() -> restTemplate.exchange(requestEntity, ApproveDonationResponseDto.class).getBody());
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    // Bulkhead -> CircuitBreaker 순서로 감싸서 호출하고, 차단된 호출은 BaseException으로 변환
+    private <T> T execute(Supplier<T> call) {
+        Supplier<T> decorated = Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call));
+        try {
+            return decorated.get();
+        } catch (BulkheadFullException e) {
+            log.warn("[KakaoPayClient] 동시 결제 호출 수 초과");
+            throw new BaseException(BaseResponseStatus.PAYMENT_BULKHEAD_FULL);
+        } catch (CallNotPermittedException e) {
+            log.warn("[KakaoPayClient] 서킷 차단 중, 결제 호출 생략");
+            throw new BaseException(BaseResponseStatus.PAYMENT_CIRCUIT_OPEN);
+        }
+    }
+
+    private URI buildUri(String path) {
+        return UriComponentsBuilder
+                .fromUriString(baseUrl)
+                .path(path)
+                .encode()
+                .build()
+                .toUri();
+    }
+
+    private HttpHeaders buildHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Authorization", "SECRET_KEY " + secretKey);
+        headers.add("Content-Type", "application/json");
+        return headers;
+    }
+
+    private Map<String, Object> buildReadyRequestBody(int donationAmount) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("cid", cid);
+        body.put("partner_order_id", "partner_order_id");
+        body.put("partner_user_id", "partner_user_id");
+        body.put("item_name", "🥧 Giftipie 🥧");
+        body.put("quantity", "1");
+        body.put("total_amount", donationAmount);
+        body.put("vat_amount", "0");
+        body.put("tax_free_amount", "0");
+        body.put("approval_url", approveRedirectUrl);
+        body.put("cancel_url", cancelRedirectUrl);
+        body.put("fail_url", failRedirectUrl);
+        return body;
+    }
+
+    private Map<String, Object> buildApproveRequestBody(String tid, String pgToken) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("cid", cid);
+        body.put("tid", tid);
+        body.put("partner_order_id", "partner_order_id");
+        body.put("partner_user_id", "partner_user_id");
+        body.put("pg_token", pgToken);
+        return body;
+    }
+}
@@ -97,6 +97,20 @@ public class FundingController {
         return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.ALL_FUNDING_GET_SUCCESS, allFundingsPage));
     }
 
+    // 커서 페이지네이션으로 모든 펀딩 조회 (첫 페이지는 cursor 생략)
+    @GetMapping("/all/cursor")
+    public ResponseEntity<BaseResponse<FundingCursorResponseDto>> getAllFundingsByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortOrder
+    ){
+        log.info("[getAllFundingsByCursor] 모든 펀딩 리스트 커서 조회");
+
+        FundingCursorResponseDto allFundings = fundingService.getAllFundingsByCursor(cursor, size, sortBy, sortOrder);
+        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.ALL_FUNDING_GET_SUCCESS, allFundings));
+    }
+
     @GetMapping("/active")
     public ResponseEntity<BaseResponse<Slice<FundingResponseDto>>> getActiveFundings(
             @RequestParam(defaultValue = "0") int page,
@@ -110,6 +124,20 @@ public class FundingController {
         return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.ACTIVE_FUNDINGS_GET_SUCCESS, activeFundingsPage));
     }
 
+    // 커서 페이지네이션으로 진행중인 펀딩 조회 (첫 페이지는 cursor 생략)
+    @GetMapping("/active/cursor")
+    public ResponseEntity<BaseResponse<FundingCursorResponseDto>> getActiveFundingsByCursor(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortOrder
+    ){
+        log.info("[getActiveFundingsByCursor] 진행중인 펀딩 리스트 커서 조회");
+
+        FundingCursorResponseDto activeFundings = fundingService.getActiveFundingsByCursor(cursor, size, sortBy, sortOrder);
+        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.ACTIVE_FUNDINGS_GET_SUCCESS, activeFundings));
+    }
+
     // 펀딩 등록시 저장된 마감일 기준으로 현재 종료된 펀딩 [페이지네이션 적용]
     @GetMapping("/finished")
     public ResponseEntity<BaseResponse<Slice<FundingResponseDto>>> getFinishedFundings(
@@ -137,10 +165,11 @@ public class FundingController {
         log.info("[findFunding] 펀딩 상세 페이지" + fundingResponseDto);
 
         // 여기에서는 isOwner 값을 동적으로 설정합니다.
+        // 캐시된 객체는 여러 요청이 공유하므로 복사본에 설정합니다.
         boolean isOwner = user != null && fundingResponseDto.getOwnerId().equals(user.getId());
-        fundingResponseDto.setIsOwner(isOwner);
+        FundingResponseDto responseDto = fundingResponseDto.withOwnerFlag(isOwner);
 
-        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.FUNDING_DETAIL_GET_SUCCESS, fundingResponseDto));
+        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.FUNDING_DETAIL_GET_SUCCESS, responseDto));
     }
 
     // 펀딩 종료버튼 딸~깍
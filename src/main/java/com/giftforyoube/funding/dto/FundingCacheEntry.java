@@ -0,0 +1,15 @@
+package com.giftforyoube.funding.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 캐시 값과 함께 재계산 소요 시간(delta), 만료 시각을 저장 (XFetch 조기 갱신에 사용)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FundingCacheEntry<T> {
+    private T value;
+    private long delta;
+    private long expiresAt;
+}
@@ -0,0 +1,54 @@
+package com.giftforyoube.funding.dto;
+
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 페이지네이션 위치 : 마지막으로 조회한 펀딩의 (createdAt, id), 클라이언트에는 Base64 문자열로 전달
+@Getter
+@AllArgsConstructor
+public class FundingCursor {
+
+    private static final String SEPARATOR = "_";
+    // 첫 페이지 조회 시 사용하는 경계값 (MySQL DATETIME 범위 내)
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public static FundingCursor of(Funding funding) {
+        return new FundingCursor(funding.getCreatedAt(), funding.getId());
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 비어 있다면 정렬 방향에 맞는 첫 페이지 위치를 반환합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor
+     * @param asc 오름차순 여부
+     * @return 커서 위치
+     */
+    public static FundingCursor decode(String cursor, boolean asc) {
+        if (cursor == null || cursor.isEmpty()) {
+            return asc ? new FundingCursor(MIN_CREATED_AT, 0L) : new FundingCursor(MAX_CREATED_AT, Long.MAX_VALUE);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR);
+            return new FundingCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_FUNDING_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,15 @@
+package com.giftforyoube.funding.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 페이지네이션 응답 : 다음 페이지가 없다면 nextCursor는 null
+@Getter
+@AllArgsConstructor
+public class FundingCursorResponseDto {
+    private List<FundingResponseDto> content;
+    private String nextCursor;
+    private boolean last;
+}
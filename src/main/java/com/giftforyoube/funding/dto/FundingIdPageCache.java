@@ -0,0 +1,19 @@
+package com.giftforyoube.funding.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 목록 페이지 캐시 : 펀딩 정보 대신 정렬된 펀딩 ID와 페이지 정보만 저장 (펀딩 정보는 펀딩별 캐시 키에 한 번만 저장)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FundingIdPageCache {
+    private List<Long> ids;
+    private int page;
+    private int size;
+    private boolean last;
+    private long totalElements;
+}
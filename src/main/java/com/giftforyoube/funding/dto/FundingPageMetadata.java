@@ -1,13 +0,0 @@
-package com.giftforyoube.funding.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
-public class FundingPageMetadata {
-    private int totalPages;
-    private long totalElements;
-}
@@ -110,4 +110,28 @@ public class FundingResponseDto implements Serializable {
     public void setIsOwner(boolean isOwner) {
         this.ownerFlag = isOwner;
     }
+
+    // 로컬 캐시에 공유되는 객체를 변경하지 않도록 소유자 여부만 바꾼 복사본 반환
+    public FundingResponseDto withOwnerFlag(boolean isOwner) {
+        FundingResponseDto copy = new FundingResponseDto();
+        copy.id = this.id;
+        copy.itemLink = this.itemLink;
+        copy.itemImage = this.itemImage;
+        copy.itemName = this.itemName;
+        copy.showName = this.showName;
+        copy.title = this.title;
+        copy.content = this.content;
+        copy.currentAmount = this.currentAmount;
+        copy.targetAmount = this.targetAmount;
+        copy.publicFlag = this.publicFlag;
+        copy.endDate = this.endDate;
+        copy.dday = this.dday;
+        copy.status = this.status;
+        copy.achievementRate = this.achievementRate;
+        copy.ownerId = this.ownerId;
+        copy.ownerFlag = isOwner;
+        copy.createdAt = this.createdAt;
+        copy.modifiedAt = this.modifiedAt;
+        return copy;
+    }
 }
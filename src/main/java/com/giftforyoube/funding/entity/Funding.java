@@ -19,6 +19,18 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(indexes = {
+        // 커서 페이지네이션 (상태별 / 전체 공개 펀딩, 생성일 순)
+        @Index(name = "idx_funding_status_public_created", columnList = "status, public_flag, created_at, id"),
+        @Index(name = "idx_funding_public_created", columnList = "public_flag, created_at, id"),
+        // 정렬 기준별 목록 조회 (FundingSortType)
+        @Index(name = "idx_funding_status_public_end_date", columnList = "status, public_flag, end_date, id"),
+        @Index(name = "idx_funding_public_end_date", columnList = "public_flag, end_date, id"),
+        @Index(name = "idx_funding_status_public_achievement", columnList = "status, public_flag, achievement_rate, id"),
+        @Index(name = "idx_funding_public_achievement", columnList = "public_flag, achievement_rate, id"),
+        @Index(name = "idx_funding_status_public_donation_count", columnList = "status, public_flag, donation_count, id"),
+        @Index(name = "idx_funding_public_donation_count", columnList = "public_flag, donation_count, id")
+})
 public class Funding extends Auditable implements Serializable {
     private static final long serialVersionUID = 1L;
 
@@ -36,6 +48,10 @@ public class Funding extends Auditable implements Serializable {
     private String content;
     private int currentAmount;
     private int targetAmount;
+    // 정렬용 파생 컬럼 : 목표 금액 대비 달성률(%, 100 초과 가능), 후원 횟수
+    // 후원 횟수가 NULL 이면 컬럼 추가 전에 만들어진 펀딩 (서버 시작 시 한 번 채운 뒤로는 NULL 이 남지 않음)
+    private int achievementRate;
+    private Integer donationCount = 0;
     private boolean publicFlag;
     private LocalDate endDate;
     @Enumerated(EnumType.STRING)
@@ -61,6 +77,7 @@ public class Funding extends Auditable implements Serializable {
         this.publicFlag = publicFlag;
         this.endDate = endDate;
         this.status = status;
+        this.achievementRate = calculateAchievementRate();
     }
 
     public void update(FundingUpdateRequestDto requestDto) {
@@ -72,8 +89,17 @@ public class Funding extends Auditable implements Serializable {
 
     public void setCurrentAmount(int currentAmount) {
         this.currentAmount = currentAmount;
+        this.achievementRate = calculateAchievementRate();
         if (currentAmount >= targetAmount) {
             this.status = FundingStatus.FINISHED;
         }
     }
+
+    public int getDonationCount() {
+        return donationCount == null ? 0 : donationCount;
+    }
+
+    private int calculateAchievementRate() {
+        return targetAmount == 0 ? 0 : (int) Math.round((double) currentAmount / targetAmount * 100);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.giftforyoube.funding.entity;
+
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 펀딩 목록에서 지원하는 정렬 기준 (모두 인덱스가 있는 컬럼)
+@Getter
+@RequiredArgsConstructor
+public enum FundingSortType {
+    CREATED_AT("createdAt"), // 최신순
+    END_DATE("endDate"), // 마감 임박순 (D-Day)
+    ACHIEVEMENT_RATE("achievementRate"), // 달성률순
+    DONATION_COUNT("donationCount"); // 후원 많은순
+
+    private final String property;
+
+    /**
+     * 요청으로 받은 sortBy를 정렬 기준으로 변환합니다.
+     *
+     * @param sortBy 요청 정렬 기준
+     * @return 정렬 기준, 지원하지 않는 값이면 예외
+     */
+    public static FundingSortType from(String sortBy) {
+        for (FundingSortType sortType : values()) {
+            if (sortType.property.equals(sortBy)) {
+                return sortType;
+            }
+        }
+        throw new BaseException(BaseResponseStatus.UNSUPPORTED_FUNDING_SORT);
+    }
+}
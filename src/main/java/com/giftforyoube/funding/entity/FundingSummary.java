@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// 전체 통계를 여러 행(샤드)에 나누어 누적하고, 조회 시 합산
+// shard 가 null 인 행은 샤드 도입 전의 단일 통계 행으로, 압축(compact) 시 0번 샤드에 합쳐짐
 @Getter
 @Setter
 @Entity
@@ -16,6 +18,9 @@ public class FundingSummary {
         @GeneratedValue(strategy = GenerationType.IDENTITY)
         private Long id;
 
+        @Column(unique = true)
+        private Integer shard;
+
         @Column(nullable = false)
         private long totalDonationsCount = 0;
 
@@ -24,4 +29,8 @@ public class FundingSummary {
 
         @Column(nullable = false)
         private long totalFundingAmount = 0;
+
+        public FundingSummary(Integer shard) {
+                this.shard = shard;
+        }
 }
@@ -7,10 +7,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FundingRepository extends JpaRepository<Funding, Long> {
@@ -24,6 +27,79 @@ public interface FundingRepository extends JpaRepository<Funding, Long> {
     @Query("SELECT f FROM Funding f WHERE f.status = :status AND f.publicFlag = true")
     Slice<Funding> findByStatusAndPublicFlagTrue(@Param("status") FundingStatus fundingStatus, Pageable pageable);
     List<Funding> findByEndDateLessThanEqualAndStatus(LocalDate currentDate, FundingStatus fundingStatus);
+    // 후원 금액 누적 : 읽고-더하고-저장하는 대신 DB에서 원자적으로 더하므로 동시 후원에도 갱신이 유실되지 않음
+    // 달성률은 갱신 전 금액 + 후원 금액으로 계산 (MySQL은 SET 절을 왼쪽부터 적용하므로 current_amount를 마지막에 갱신)
+    // 후원 횟수가 아직 채워지지 않은(NULL) 펀딩은 NULL 로 남겨 두어, 채울 때 이 후원까지 포함해 후원 기록으로 세도록 함
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Funding f SET " +
+            "f.achievementRate = CASE WHEN f.targetAmount = 0 THEN 0 ELSE CAST(ROUND((f.currentAmount + :amount) * 100.0 / f.targetAmount) AS Integer) END, " +
+            "f.donationCount = f.donationCount + 1, " +
+            "f.currentAmount = f.currentAmount + :amount " +
+            "WHERE f.id = :id")
+    int addDonationAmount(@Param("id") Long fundingId, @Param("amount") int amount);
+
+    // 목표 금액 달성 시 종료 : 조건부 UPDATE라 동시에 여러 후원이 목표를 넘겨도 정확히 한 요청만 1을 반환
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Funding f SET f.status = :finished " +
+            "WHERE f.id = :id AND f.status = :active AND f.currentAmount >= f.targetAmount")
+    int finishIfTargetReached(@Param("id") Long fundingId, @Param("active") FundingStatus active, @Param("finished") FundingStatus finished);
+
+    // 정렬용 파생 컬럼(달성률, 후원 횟수)이 추가되기 전에 만들어진 펀딩의 값 채우기
+    // 후원 횟수가 NULL 인 행만 채우므로 한 번 채운 뒤에는 0건 (후원 기록 없이 금액만 있는 펀딩도 다시 잡히지 않음)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Funding f SET " +
+            "f.achievementRate = CASE WHEN f.targetAmount = 0 THEN 0 ELSE CAST(ROUND(f.currentAmount * 100.0 / f.targetAmount) AS Integer) END, " +
+            "f.donationCount = CAST((SELECT COUNT(d) FROM Donation d WHERE d.funding = f) AS Integer) " +
+            "WHERE f.donationCount IS NULL")
+    int backfillSortColumns();
+
+    // 펀딩 목록 인덱스 재구축용 (ID 기준 keyset 조회)
+    List<Funding> findTop1000ByPublicFlagTrueAndIdGreaterThanOrderByIdAsc(Long id);
+
+    // 펀딩 목록 인덱스 재구축 중에 수정된 펀딩 (공개 여부와 관계없이 조회하여 비공개 전환도 반영)
+    List<Funding> findAllByModifiedAtGreaterThanEqual(LocalDateTime modifiedAt);
   
     Funding findByUserIdAndStatus(Long userId, FundingStatus fundingStatus);
+
+    // 마감 펀딩 종료 스케줄러용 : 묶음 단위 ID 조회 -> 일괄 상태 변경 -> 소유자 함께 조회
+    @Query("SELECT f.id FROM Funding f WHERE f.endDate <= :currentDate AND f.status = :status ORDER BY f.id")
+    List<Long> findIdsByEndDateLessThanEqualAndStatus(@Param("currentDate") LocalDate currentDate,
+                                                      @Param("status") FundingStatus fundingStatus, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Funding f SET f.status = :to, f.modifiedAt = :now WHERE f.id IN :ids AND f.status = :from")
+    int updateStatusByIdIn(@Param("ids") List<Long> ids, @Param("from") FundingStatus from,
+                           @Param("to") FundingStatus to, @Param("now") LocalDateTime now);
+
+    // 이번 실행에서 상태를 바꾼 행만 조회 (updateStatusByIdIn 에 넘긴 시각으로 찍힌 행)
+    @Query("SELECT f FROM Funding f JOIN FETCH f.user WHERE f.id IN :ids AND f.status = :status AND f.modifiedAt = :modifiedAt")
+    List<Funding> findAllWithUserByIdInAndStatusAndModifiedAt(@Param("ids") List<Long> ids, @Param("status") FundingStatus status,
+                                                              @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    // 커서 페이지네이션 : (createdAt, id) 기준 seek 조회, COUNT 쿼리 없음
+    @Query("SELECT f FROM Funding f WHERE f.publicFlag = true " +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Funding> findPublicBeforeCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT f FROM Funding f WHERE f.publicFlag = true " +
+            "AND (f.createdAt > :createdAt OR (f.createdAt = :createdAt AND f.id > :id)) " +
+            "ORDER BY f.createdAt ASC, f.id ASC")
+    List<Funding> findPublicAfterCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT f FROM Funding f WHERE f.status = :status AND f.publicFlag = true " +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Funding> findByStatusBeforeCursor(@Param("status") FundingStatus fundingStatus, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT f FROM Funding f WHERE f.status = :status AND f.publicFlag = true " +
+            "AND (f.createdAt > :createdAt OR (f.createdAt = :createdAt AND f.id > :id)) " +
+            "ORDER BY f.createdAt ASC, f.id ASC")
+    List<Funding> findByStatusAfterCursor(@Param("status") FundingStatus fundingStatus, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
@@ -1,10 +1,37 @@
 package com.giftforyoube.funding.repository;
 
 import com.giftforyoube.funding.entity.FundingSummary;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface FundingSummaryRepository extends JpaRepository<FundingSummary, Long> {
-    Optional<FundingSummary> findFirstByOrderByIdAsc();
+
+    // 샤드 행에 후원 통계를 원자적으로 누적 (샤드 행이 없으면 0 반환)
+    @Modifying
+    @Transactional
+    @Query("UPDATE FundingSummary s SET " +
+            "s.totalDonationsCount = s.totalDonationsCount + :count, " +
+            "s.totalFundingAmount = s.totalFundingAmount + :amount " +
+            "WHERE s.shard = :shard")
+    int addDonations(@Param("shard") int shard, @Param("count") long count, @Param("amount") long amount);
+
+    // 샤드 행에 성공한 펀딩 수를 원자적으로 누적 (샤드 행이 없으면 0 반환)
+    @Modifying
+    @Transactional
+    @Query("UPDATE FundingSummary s SET s.successfulFundingsCount = s.successfulFundingsCount + :count WHERE s.shard = :shard")
+    int addSuccessfulFundings(@Param("shard") int shard, @Param("count") long count);
+
+    boolean existsByShard(Integer shard);
+
+    // 압축 중 누적이 끼어들지 않도록 모든 통계 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FundingSummary s ORDER BY s.id ASC")
+    List<FundingSummary> findAllForUpdate();
 }
@@ -2,21 +2,45 @@ package com.giftforyoube.funding.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.giftforyoube.funding.dto.*;
 import com.giftforyoube.funding.entity.FundingItem;
+import com.giftforyoube.global.cache.CacheCodec;
 import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.data.domain.*;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.hibernate.query.sqm.tree.SqmNode.log;
 
@@ -25,11 +49,63 @@ import static org.hibernate.query.sqm.tree.SqmNode.log;
 public class CacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
     private final ObjectMapper objectMapper;
-
+    private final CacheCodec cacheCodec;
+    private final MeterRegistry meterRegistry;
+    private final RedissonClient redissonClient;
 
     private static final String FUNDING_ITEM_CACHE_PREFIX = "cachedFundingItem:";
+    // 펀딩별 캐시 키 (상세 조회와 목록 페이지가 같은 값을 공유)
+    private static final String FUNDING_DETAIL_CACHE_PREFIX = "fundingDetail";
     private static final String FUNDING_SUMMARY_CACHE_KEY = "fundingSummary";
+    // 펀딩 캐시 네임스페이스 버전(세대 카운터) 키
+    private static final String FUNDING_CACHE_VERSION_KEY = "fundingCacheVersion";
+    // 펀딩 ID -> 해당 펀딩이 포함된 목록 페이지 캐시 키들 (역인덱스)
+    private static final String FUNDING_PAGE_INDEX_PREFIX = "fundingPages";
+    // 펀딩 ID -> 마지막으로 evictFunding 된 시각(ms), 조회 중에 삭제된 펀딩의 캐시를 저장하지 않기 위해 사용
+    // 캐시 조회는 락 임대 시간(10초) 안에 끝나므로 그보다 넉넉히 보관, 서버 간 시계 차이를 감안해 비교
+    private static final String FUNDING_EVICTED_PREFIX = "fundingEvicted:";
+    private static final Duration FUNDING_EVICTED_TTL = Duration.ofMinutes(1);
+    private static final long EVICTION_CLOCK_SKEW_MILLIS = 1000;
+    private static final Duration FUNDING_CACHE_TTL = Duration.ofHours(1);
+    // 통계는 후원마다 삭제하지 않고 샤드 합산 값을 짧게 캐시 (최대 TTL 만큼 늦게 반영)
+    private static final Duration FUNDING_SUMMARY_CACHE_TTL = Duration.ofSeconds(30);
+    // 후원으로 값이 바뀌는 정렬 기준, 이 기준으로 정렬된 목록 페이지만 역인덱스에 등록
+    private static final Set<String> DONATION_MUTABLE_SORT_PROPERTIES = Set.of("achievementRate", "donationCount");
+
+    // 노드 간 L1 캐시 무효화 메시지 채널 ("*" 는 전체 무효화, 그 외에는 ','로 구분된 캐시 키)
+    private static final String INVALIDATION_CHANNEL = "fundingCacheInvalidation";
+    private static final String INVALIDATE_ALL = "*";
+    // L1 캐시는 pub/sub 메시지 유실에 대비해 짧은 TTL로 유지
+    private static final Duration LOCAL_CACHE_TTL = Duration.ofSeconds(30);
+    private static final long LOCAL_CACHE_MAX_SIZE = 10_000;
+
+    // 캐시 미스 시 노드 간 loader 실행을 하나로 합치기 위한 락
+    private static final String CACHE_LOAD_LOCK_PREFIX = "cacheLoadLock:";
+    private static final long LOAD_LOCK_WAIT_MILLIS = 3000;
+    private static final long LOAD_LOCK_LEASE_MILLIS = 10000;
+    // XFetch 조기 갱신 강도 (1.0 이 기본값, 클수록 더 일찍 갱신)
+    private static final double XFETCH_BETA = 1.0;
+
+    // 역직렬화된 객체를 보관하는 프로세스 내 L1 캐시 (Redis L2 앞단)
+    private final Cache<String, Object> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_CACHE_MAX_SIZE)
+            .expireAfterWrite(LOCAL_CACHE_TTL)
+            .recordStats()
+            .build();
+
+    // 현재 JVM에서 진행중인 캐시 키별 loader 실행 (single-flight)
+    private final ConcurrentMap<String, CompletableFuture<FundingCacheEntry<?>>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * L1 캐시 메트릭을 등록하고 다른 노드에서 발행한 무효화 메시지를 구독합니다.
+     */
+    @PostConstruct
+    public void init() {
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "fundingLocalCache");
+        invalidationTopic().addListener(String.class, (channel, message) -> invalidateLocal(message));
+    }
 
     /**
      * USERID로 캐시키를 생성합니다.
@@ -84,215 +160,538 @@ public class CacheService {
     }
 
     /**
-     * 캐시에 Page 데이터 저장
-     * Page 내용만 캐시하고, 페이징 정보는 별도로 관리함
+     * 펀딩 목록 페이지를 캐시에서 조회하고, 없다면 loader로 조회하여 캐시에 저장합니다.
+     * 페이지 캐시에는 펀딩 ID 목록과 페이징 정보만 저장하고, 펀딩 정보는 펀딩별 캐시에서 가져옵니다.
      *
-     * @param cacheKey 캐시를 저장할 캐시 키
-     * @param page 페이지 정보
+     * @param cacheKey 캐시 키
+     * @param pageable 페이지 정보
+     * @param loader 캐시 미스 시 DB에서 페이지를 조회하는 로직
+     * @param entityLoader 펀딩별 캐시에 없는 펀딩을 ID로 조회하는 로직
+     * @return 펀딩 페이지 반환
      */
-    // 캐시에 Page 데이터 저장
-    public void saveFundingPageToCache(String cacheKey, Page<FundingResponseDto> page) {
-        try {
-            // Page 구현체를 JSON으로 변환하는 과정에서는 구현체의 구체적인 클래스 정보가 필요할 수 있으므로,
-
-            String jsonContent = objectMapper.writeValueAsString(page.getContent());
-            redisTemplate.opsForValue().set(cacheKey, jsonContent, Duration.ofHours(1));
-        } catch (JsonProcessingException e) {
-            throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
-        }
+    public Page<FundingResponseDto> getFundingPage(String cacheKey, Pageable pageable, Supplier<Page<FundingResponseDto>> loader,
+                                                   Function<List<Long>, List<FundingResponseDto>> entityLoader) {
+        FundingIdPageCache idPage = getIdPage(cacheKey, pageable, loader);
+        return new PageImpl<>(getFundings(idPage.getIds(), entityLoader), pageable, idPage.getTotalElements());
     }
 
     /**
-     * 캐시에서 Page 데이터 조회
+     * 진행중 / 종료된 펀딩 목록(Slice)을 캐시에서 조회하고, 없다면 loader로 조회하여 캐시에 저장합니다.
      *
-     * @param cacheKey 캐시를 조회할 캐시 키 값
+     * @param cacheKey 캐시 키
      * @param pageable 페이지 정보
-     * @return 캐시에서 조회한 페이지 정보 반환
+     * @param loader 캐시 미스 시 DB에서 목록을 조회하는 로직
+     * @param entityLoader 펀딩별 캐시에 없는 펀딩을 ID로 조회하는 로직
+     * @return 펀딩 리스트 slice 반환
      */
-    public Page<FundingResponseDto> getFundingPageFromCache(String cacheKey, Pageable pageable) {
-        String jsonContent = redisTemplate.opsForValue().get(cacheKey);
-        if (jsonContent == null) {
-            return null;
+    public Slice<FundingResponseDto> getFundingList(String cacheKey, Pageable pageable, Supplier<Slice<FundingResponseDto>> loader,
+                                                    Function<List<Long>, List<FundingResponseDto>> entityLoader) {
+        FundingIdPageCache idPage = getIdPage(cacheKey, pageable, loader);
+        return new SliceImpl<>(getFundings(idPage.getIds(), entityLoader),
+                PageRequest.of(idPage.getPage(), idPage.getSize()), idPage.isLast());
+    }
+
+    /**
+     * 펀딩 상세 정보를 캐시에서 조회하고, 없다면 loader로 조회하여 캐시에 저장합니다.
+     *
+     * @param cacheKey 캐시 키
+     * @param loader 캐시 미스 시 DB에서 펀딩을 조회하는 로직 (null 반환 시 캐시하지 않음)
+     * @return 펀딩 상세 정보, 없으면 null
+     */
+    public FundingResponseDto getFunding(String cacheKey, Supplier<FundingResponseDto> loader) {
+        return getOrLoad(cacheKey, new TypeReference<FundingResponseDto>() {}, loader, null);
+    }
+
+    /**
+     * 펀딩 통계 정보를 캐시에서 조회하고, 없다면 loader로 조회하여 캐시에 저장합니다.
+     *
+     * @param loader 캐시 미스 시 DB에서 통계를 조회하는 로직
+     * @return 펀딩 통계 정보 반환
+     */
+    public FundingSummaryResponseDto getSummary(Supplier<FundingSummaryResponseDto> loader) {
+        return getOrLoad(buildSummaryCacheKey(), new TypeReference<FundingSummaryResponseDto>() {}, loader, null);
+    }
+
+    /**
+     * 현재 펀딩 캐시 네임스페이스 버전을 조회합니다.
+     * 버전 키가 없다면 0을 반환합니다.
+     * 버전 역시 L1 캐시에 보관하고, 버전 변경 시 무효화 메시지로 갱신합니다.
+     * Redis 조회는 L1 캐시의 compute(내부 잠금) 밖에서 실행하여, 가상 스레드가 I/O 동안 캐리어 스레드에 고정되지 않도록 합니다.
+     *
+     * @return 현재 펀딩 캐시 버전
+     */
+    public long getFundingCacheVersion() {
+        Object cached = localCache.getIfPresent(FUNDING_CACHE_VERSION_KEY);
+        if (cached != null) {
+            return (Long) cached;
         }
-        try {
-            List<FundingResponseDto> content = objectMapper.readValue(jsonContent, new TypeReference<List<FundingResponseDto>>(){});
-            // 캐시된 내용과 Pageable 정보를 기반으로 새 Page 객체를 생성해야함.
-            // 실제 페이지 크기와 전체 페이지 수 등은 DB 조회 없이 알 수 없으므로, 조정이 필요.
-            return new PageImpl<>(content, pageable, content.size());
-        } catch (JsonProcessingException e) {
-            throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+        String version = redisTemplate.opsForValue().get(FUNDING_CACHE_VERSION_KEY);
+        long currentVersion = version == null ? 0L : Long.parseLong(version);
+        localCache.put(FUNDING_CACHE_VERSION_KEY, currentVersion);
+        return currentVersion;
+    }
+
+    /**
+     * 현재 네임스페이스 버전을 포함한 펀딩 캐시 키를 생성합니다.
+     * ex) fundingDetail:v3:15
+     *
+     * @param prefix 캐시 종류 (fundingDetail, MyFundingInfo, allFundings 등)
+     * @param suffix 캐시 종류 내에서의 식별자
+     * @return 버전이 포함된 캐시 키 반환
+     */
+    public String buildFundingCacheKey(String prefix, String suffix) {
+        return buildFundingCacheKey(prefix, suffix, getFundingCacheVersion());
+    }
+
+    private String buildFundingCacheKey(String prefix, String suffix, long version) {
+        return prefix + ":v" + version + ":" + suffix;
+    }
+
+    /**
+     * 현재 네임스페이스 버전을 포함한 펀딩 통계 캐시 키를 생성합니다.
+     *
+     * @return 버전이 포함된 통계 캐시 키 반환
+     */
+    private String buildSummaryCacheKey() {
+        return FUNDING_SUMMARY_CACHE_KEY + ":v" + getFundingCacheVersion();
+    }
+
+    /**
+     * 펀딩 생성, 업데이트, 삭제 시 캐시 무효화
+     * KEYS 명령으로 키를 찾아 지우는 대신 네임스페이스 버전만 증가시킵니다. (O(1))
+     * 이전 버전의 키들은 더 이상 조회되지 않고 TTL에 의해 자연스럽게 만료됩니다.
+     * 모든 노드의 L1 캐시도 함께 비웁니다.
+     */
+    public void clearFundingCaches() {
+        Long version = redisTemplate.opsForValue().increment(FUNDING_CACHE_VERSION_KEY);
+        localCache.invalidateAll();
+        invalidationTopic().publish(INVALIDATE_ALL);
+        log.info("[clearFundingCaches] 펀딩 캐시 버전 증가: " + version);
+    }
+
+    /**
+     * 후원처럼 펀딩 하나만 변경된 경우의 캐시 무효화
+     * 해당 펀딩의 캐시(상세 / 목록 공용), 소유자의 내 펀딩 캐시를 삭제합니다.
+     * 통계 캐시는 짧은 TTL로 갱신되므로 삭제하지 않습니다.
+     * 목록 페이지는 ID만 저장하므로 그대로 두고, 달성률 순처럼 정렬 순서가 바뀔 수 있는 페이지만
+     * 역인덱스를 통해 삭제합니다.
+     * 삭제 전에 삭제 시각을 남겨, 이미 DB에서 이전 값을 읽은 조회가 삭제 후에 캐시를 다시 채우지 않도록 합니다.
+     *
+     * @param fundingId 변경된 펀딩의 ID
+     * @param ownerId 변경된 펀딩 소유자의 ID
+     */
+    public void evictFunding(Long fundingId, Long ownerId) {
+        redisTemplate.opsForValue().set(FUNDING_EVICTED_PREFIX + fundingId, String.valueOf(System.currentTimeMillis()), FUNDING_EVICTED_TTL);
+        long version = getFundingCacheVersion();
+        String indexKey = buildFundingCacheKey(FUNDING_PAGE_INDEX_PREFIX, fundingId.toString(), version);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(buildFundingCacheKey(FUNDING_DETAIL_CACHE_PREFIX, fundingId.toString(), version));
+        keys.add(buildFundingCacheKey("MyFundingInfo", ownerId.toString(), version));
+        keys.add(indexKey);
+        Set<String> pageKeys = redisTemplate.opsForSet().members(indexKey);
+        if (pageKeys != null) {
+            keys.addAll(pageKeys);
         }
+        redisTemplate.delete(keys);
+        localCache.invalidateAll(keys);
+        invalidationTopic().publish(String.join(",", keys));
+        log.info("[evictFunding] 펀딩 캐시 삭제: " + fundingId + ", 목록 페이지 " + (pageKeys == null ? 0 : pageKeys.size()) + "건");
     }
 
     /**
-     * 페이지 정보를 캐시에 저장
-     * @param cacheKey 캐시를 저장할 캐시 키 값
-     * @param page 페이지 정보
+     * 캐시를 조회하고, 없거나 곧 만료될 예정이라면 loader로 다시 계산하여 캐시에 저장합니다.
+     * - 캐시 미스 시 같은 키에 대한 동시 요청은 하나의 loader 실행 결과를 공유합니다. (single-flight)
+     * - 만료 직전에는 XFetch 확률에 따라 한 요청만 미리 갱신하고, 나머지는 기존 값을 사용합니다.
+     *
+     * @param cacheKey 캐시 키
+     * @param type 캐시 값 타입
+     * @param loader 캐시 값을 계산하는 로직 (null 반환 시 캐시하지 않음)
+     * @param pageContents 목록 페이지인 경우 역인덱스에 등록할 펀딩 ID 추출 함수, 아니면 null
+     * @return 캐시 값, loader가 null을 반환한 경우 null
      */
-    public void saveFundingsPageToCache(String cacheKey, Page<FundingResponseDto> page) {
-        try {
-            FundingPageCached<FundingResponseDto> cachedPage = new FundingPageCached<>();
-            cachedPage.setContent(page.getContent());
-            cachedPage.setMetadata(new FundingPageMetadata(page.getTotalPages(), page.getTotalElements()));
-
-            String jsonContent = objectMapper.writeValueAsString(cachedPage);
-            redisTemplate.opsForValue().set(cacheKey, jsonContent, Duration.ofHours(1));
-        } catch (JsonProcessingException e) {
-            throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
+    private <T> T getOrLoad(String cacheKey, TypeReference<T> type, Supplier<T> loader,
+                            Function<T, List<Long>> pageContents) {
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        JavaType entryType = typeFactory.constructParametricType(FundingCacheEntry.class, typeFactory.constructType(type));
+
+        FundingCacheEntry<T> entry = getEntry(cacheKey, entryType);
+        if (entry == null || shouldRefreshEarly(entry)) {
+            entry = loadSingleFlight(cacheKey, entryType, loader, pageContents, entry);
         }
+        return entry == null ? null : entry.getValue();
     }
 
     /**
-     * 캐시에서 페이지 정보를 조회
-     * @param cacheKey 캐시를 조회할 캐시 키 값
-     * @param pageable 페이지 정보
-     * @return 캐시에서 조회한 페이지 정보 반환
+     * L1 -> L2(Redis) 순서로 캐시를 조회합니다.
+     * L2에서 조회된 값은 역직렬화 후 L1에 저장하여 이후 조회 시 Redis 왕복과 역직렬화를 생략합니다.
+     *
+     * @param cacheKey 조회할 캐시 키
+     * @param entryType 역직렬화할 타입
+     * @return 캐시된 값, 없으면 null
      */
-    public Page<FundingResponseDto> getFundingsPageFromCache(String cacheKey, Pageable pageable) {
-        String jsonContent = redisTemplate.opsForValue().get(cacheKey);
-        if (jsonContent == null) {
-            return Page.empty(); // 캐시에서 데이터를 가져올 수 없으면 빈 페이지 반환
+    @SuppressWarnings("unchecked")
+    private <T> FundingCacheEntry<T> getEntry(String cacheKey, JavaType entryType) {
+        Object cached = localCache.getIfPresent(cacheKey);
+        recordCacheAccess(cacheKey, "l1", cached != null);
+        if (cached != null) {
+            return (FundingCacheEntry<T>) cached;
         }
-        try {
-            FundingPageCached<FundingResponseDto> cachedPage = objectMapper.readValue(jsonContent, new TypeReference<FundingPageCached<FundingResponseDto>>() {
-            });
-            return new PageImpl<>(cachedPage.getContent(), pageable, cachedPage.getMetadata().getTotalElements());
-        } catch (JsonProcessingException e) {
-            throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+
+        FundingCacheEntry<T> entry = readEntry(cacheKey, entryType);
+        recordCacheAccess(cacheKey, "l2", entry != null);
+        if (entry != null) {
+            localCache.put(cacheKey, entry);
         }
+        return entry;
     }
 
-
     /**
-     *  캐시에 펀딩 목록 저장하는 로직
-     * @param cacheKey 캐시에 저장할 캐시 키 값
-     * @param fundings 펀딩리스트
+     * Redis(L2)에서 캐시 값을 조회하여 역직렬화합니다.
+     * 코덱 변경 배포 중 다른 형식으로 저장된 값처럼 읽을 수 없는 값은 캐시 미스로 처리합니다.
      */
-    public void saveFundingListToCache(String cacheKey, Slice<FundingResponseDto> fundings) {
-        FundingResponseDtoCache cache = new FundingResponseDtoCache(
-                new ArrayList<>(fundings.getContent()),
-                fundings.getNumber(),
-                fundings.getSize(),
-                fundings.isLast()
-        );
+    private <T> FundingCacheEntry<T> readEntry(String cacheKey, JavaType entryType) {
+        return decodeEntry(cacheKey, binaryRedisTemplate.opsForValue().get(cacheKey), entryType);
+    }
 
+    private <T> FundingCacheEntry<T> decodeEntry(String cacheKey, byte[] content, JavaType entryType) {
+        if (content == null) {
+            return null;
+        }
         try {
-            String jsonContent = objectMapper.writeValueAsString(cache);
-            redisTemplate.opsForValue().set(cacheKey, jsonContent, Duration.ofHours(1)); // 캐시 만료 시간은 필요에 따라 조정
-        } catch (JsonProcessingException e) {
-            throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
+            return cacheCodec.decode(content, entryType);
+        } catch (BaseException e) {
+            log.warn("[readEntry] 캐시 역직렬화 실패, 캐시 미스로 처리: " + cacheKey);
+            return null;
         }
     }
 
     /**
-     * // 캐시에서 목록 조회하는 로직
+     * XFetch 조기 갱신 여부를 판단합니다.
+     * now - delta * beta * ln(rand) >= expiresAt 이면 만료 전이라도 미리 갱신합니다.
+     * 재계산 시간이 길수록, 만료 시각에 가까울수록 갱신 확률이 높아집니다.
      *
-     * @param cacheKey 캐시에서 조회할 캐시 키 값
-     * @param pageable 페이지 정보
-     * @return 캐시에서 조회한 펀딩 리스트 slice  반환
+     * @param entry 캐시 값
+     * @return 조기 갱신 여부
+     */
+    private boolean shouldRefreshEarly(FundingCacheEntry<?> entry) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = -entry.getDelta() * XFETCH_BETA * Math.log(random);
+        return System.currentTimeMillis() + gap >= entry.getExpiresAt();
+    }
+
+    /**
+     * 같은 JVM 내에서 같은 키에 대한 loader 실행을 하나로 합칩니다.
+     * 먼저 도착한 요청만 loader를 실행하고, 나머지 요청은 그 결과를 기다립니다.
+     * 먼저 실행한 요청이 락 대기 시간만큼 지나도 끝나지 않으면 더 기다리지 않고 직접 loader를 실행합니다.
+     * (느린 DB 조회 하나에 같은 키의 요청 스레드가 모두 묶이지 않도록)
      */
-    public Slice<FundingResponseDto> getFundingListFromCache(String cacheKey, Pageable pageable) {
-        String jsonContent = redisTemplate.opsForValue().get(cacheKey);
-        if (jsonContent == null) {
-            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+    @SuppressWarnings("unchecked")
+    private <T> FundingCacheEntry<T> loadSingleFlight(String cacheKey, JavaType entryType, Supplier<T> loader,
+                                                      Function<T, List<Long>> pageContents,
+                                                      FundingCacheEntry<T> stale) {
+        CompletableFuture<FundingCacheEntry<?>> future = new CompletableFuture<>();
+        CompletableFuture<FundingCacheEntry<?>> inFlight = inFlightLoads.putIfAbsent(cacheKey, future);
+        if (inFlight != null) {
+            if (stale != null) {
+                return stale; // 이미 다른 요청이 갱신 중이면 기존 값 사용
+            }
+            try {
+                // 공유 future 에 시간 제한을 걸면 다른 대기 요청까지 실패하므로 복사본에 검
+                return (FundingCacheEntry<T>) inFlight.copy().orTimeout(LOAD_LOCK_WAIT_MILLIS, TimeUnit.MILLISECONDS).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    log.warn("[loadSingleFlight] 먼저 실행한 캐시 조회가 끝나지 않아 직접 조회: " + cacheKey);
+                    return loadAndStore(cacheKey, loader, pageContents, "timeout");
+                }
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
         }
+
         try {
-            FundingResponseDtoCache cache = objectMapper.readValue(jsonContent, FundingResponseDtoCache.class);
-            return new SliceImpl<>(cache.getContent(), PageRequest.of(cache.getPage(), cache.getSize()), cache.isLast());
-        } catch (JsonProcessingException e) {
-            throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+            FundingCacheEntry<T> entry = loadWithLock(cacheKey, entryType, loader, pageContents, stale);
+            future.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(cacheKey, future);
         }
     }
 
     /**
-     * // 펀딩 상세 정보 캐시에 저장
-     *
-     * @param cacheKey 캐시에 저장할 캐시 키 값
-     * @param fundingResponseDto 펀딩 상세 정보
+     * Redisson 분산 락으로 노드 간에도 같은 키의 loader가 하나만 실행되도록 합니다.
+     * 락을 기다리는 동안 다른 노드가 캐시를 채웠다면 DB 조회 없이 그 값을 사용합니다.
+     * 조기 갱신(stale != null)인 경우에는 락을 기다리지 않고 기존 값을 사용합니다.
      */
-    public void saveFundingToCache(String cacheKey, FundingResponseDto fundingResponseDto) {
+    private <T> FundingCacheEntry<T> loadWithLock(String cacheKey, JavaType entryType, Supplier<T> loader,
+                                                  Function<T, List<Long>> pageContents,
+                                                  FundingCacheEntry<T> stale) {
+        RLock lock = redissonClient.getLock(CACHE_LOAD_LOCK_PREFIX + cacheKey);
         try {
-            String jsonContent = objectMapper.writeValueAsString(fundingResponseDto);
-            redisTemplate.opsForValue().set(cacheKey, jsonContent, Duration.ofHours(1));
-        } catch (JsonProcessingException e) {
-            throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
+            boolean lockAcquired = lock.tryLock(stale == null ? LOAD_LOCK_WAIT_MILLIS : 0, LOAD_LOCK_LEASE_MILLIS, TimeUnit.MILLISECONDS);
+            if (!lockAcquired && stale != null) {
+                return stale;
+            }
+
+            // 락 대기 중 다른 노드가 채운(또는 갱신한) 값이 있는지 확인
+            FundingCacheEntry<T> current = readEntry(cacheKey, entryType);
+            if (current != null && (stale == null || current.getExpiresAt() > stale.getExpiresAt())) {
+                localCache.put(cacheKey, current);
+                return current;
+            }
+            return loadAndStore(cacheKey, loader, pageContents, stale == null ? "miss" : "early");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.UNABLE_TO_ACQUIRE_ROCK_INTERRUPT);
+        } finally {
+            if (lock.isLocked() && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
         }
     }
 
     /**
-     * 펀딩 상세 정보 캐시에서 조회
-     * @param cacheKey 캐시에서 조회할 캐시 키 값
-     * @return 캐시에서 조회한 펀딩 상세 정보 반환
+     * loader를 실행하여 값을 계산하고, 계산 소요 시간과 만료 시각을 함께 캐시에 저장합니다.
+     * 역인덱스에 등록하는 목록 페이지는 조회 시작 이후 페이지의 펀딩이 evictFunding 되었다면 이전 순서일 수 있으므로
+     * 저장하지 않고, 저장과 삭제가 엇갈린 경우에 대비해 등록 후에 한 번 더 확인하여 지웁니다.
      */
-    public FundingResponseDto getFundingFromCache(String cacheKey) {
-        String jsonContent = redisTemplate.opsForValue().get(cacheKey);
-        if (jsonContent == null) {
+    private <T> FundingCacheEntry<T> loadAndStore(String cacheKey, Supplier<T> loader,
+                                                  Function<T, List<Long>> pageContents, String reason) {
+        long start = System.currentTimeMillis();
+        T value = loader.get();
+        long delta = System.currentTimeMillis() - start;
+        meterRegistry.counter("funding.cache.loads", "cache", cacheName(cacheKey), "reason", reason).increment();
+        if (value == null) {
             return null;
         }
-        try {
-            return objectMapper.readValue(jsonContent, FundingResponseDto.class);
-        } catch (JsonProcessingException e) {
-            throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+
+        FundingCacheEntry<T> entry = newEntry(value, delta, ttlOf(cacheKey));
+        if (pageContents == null) {
+            saveToFundingCache(cacheKey, entry);
+            return entry;
+        }
+        List<Long> fundingIds = pageContents.apply(value);
+        if (!evictedSince(fundingIds, start).isEmpty()) {
+            meterRegistry.counter("funding.cache.discarded", "cache", cacheName(cacheKey)).increment();
+            return entry;
         }
+        saveToFundingCache(cacheKey, entry);
+        registerPageKey(cacheKey, fundingIds);
+        if (!evictedSince(fundingIds, start).isEmpty()) {
+            discard(List.of(cacheKey));
+        }
+        return entry;
     }
 
     /**
-     *  캐시에 저장된 펀딩 통계 정보 가져오기
-     * @return 펀딩 통계 정보 반환
+     * 주어진 시각 이후에 evictFunding 된 펀딩 ID를 반환합니다.
+     *
+     * @param fundingIds 확인할 펀딩 ID 목록
+     * @param since 조회 시작 시각(ms)
+     * @return 그 이후 삭제된 펀딩 ID
      */
-    public FundingSummaryResponseDto getSummaryFromCache() {
-        String jsonContent = redisTemplate.opsForValue().get(FUNDING_SUMMARY_CACHE_KEY);
-        if (jsonContent == null) {
-            return null;
+    private Set<Long> evictedSince(List<Long> fundingIds, long since) {
+        if (fundingIds.isEmpty()) {
+            return Set.of();
         }
-        try {
-            return objectMapper.readValue(jsonContent, FundingSummaryResponseDto.class);
-        } catch (JsonProcessingException e) {
-            log.error("Error deserializing funding summary from cache", e);
-            return null;
+        List<String> evictedAt = redisTemplate.opsForValue().multiGet(
+                fundingIds.stream().map(id -> FUNDING_EVICTED_PREFIX + id).toList());
+        if (evictedAt == null) {
+            return Set.of();
+        }
+        Set<Long> evicted = new HashSet<>();
+        for (int i = 0; i < fundingIds.size(); i++) {
+            String value = evictedAt.get(i);
+            if (value != null && Long.parseLong(value) >= since - EVICTION_CLOCK_SKEW_MILLIS) {
+                evicted.add(fundingIds.get(i));
+            }
         }
+        return evicted;
+    }
+
+    // 이전 값으로 저장된 캐시를 L2 / L1 에서 지움
+    private void discard(List<String> keys) {
+        redisTemplate.delete(keys);
+        localCache.invalidateAll(keys);
+        meterRegistry.counter("funding.cache.discarded", "cache", cacheName(keys.get(0))).increment(keys.size());
+    }
+
+    private <T> FundingCacheEntry<T> newEntry(T value, long delta) {
+        return newEntry(value, delta, FUNDING_CACHE_TTL);
+    }
+
+    private <T> FundingCacheEntry<T> newEntry(T value, long delta, Duration ttl) {
+        return new FundingCacheEntry<>(value, delta, System.currentTimeMillis() + ttl.toMillis());
     }
 
-    /** 펀딩 통계 정보 캐시에 저장
-     * @param summary 저장할 통계 정보
+    private Duration ttlOf(String cacheKey) {
+        return cacheKey.startsWith(FUNDING_SUMMARY_CACHE_KEY + ":") ? FUNDING_SUMMARY_CACHE_TTL : FUNDING_CACHE_TTL;
+    }
+
+    /**
+     * 객체를 CacheCodec으로 직렬화하여 Redis(L2)에 저장하고 L1에도 저장합니다.
+     * 저장된 값의 크기는 funding.cache.payload.bytes{cache} 로 기록합니다.
+     *
+     * @param cacheKey 저장할 캐시 키
+     * @param entry 저장할 캐시 값
      */
-    public void saveSummaryToCache(FundingSummaryResponseDto summary) {
-        try {
-            String jsonContent = objectMapper.writeValueAsString(summary);
-            redisTemplate.opsForValue().set(FUNDING_SUMMARY_CACHE_KEY, jsonContent, Duration.ofHours(1)); // 캐시 유지 시간은 요구 사항에 따라 조정 가능
-        } catch (JsonProcessingException e) {
-            log.error("Error serializing funding summary to cache", e);
-        }
+    private void saveToFundingCache(String cacheKey, FundingCacheEntry<?> entry) {
+        byte[] content = cacheCodec.encode(entry);
+        binaryRedisTemplate.opsForValue().set(cacheKey, content, ttlOf(cacheKey));
+        localCache.put(cacheKey, entry);
+        meterRegistry.summary("funding.cache.payload.bytes", "cache", cacheName(cacheKey)).record(content.length);
     }
 
     /**
-     * 펀딩 생성, 업데이트, 삭제 시 캐시 삭제
+     * 목록 페이지의 펀딩 ID 목록을 캐시에서 조회하고, 없다면 loader로 조회합니다.
+     * loader로 조회한 펀딩 정보는 펀딩별 캐시에 함께 저장합니다.
      */
-    public void clearFundingCaches() {
-        // 메인 펀딩 관련 캐시 삭제
-        clearCacheByPattern("activeMainFundings:*");
+    private FundingIdPageCache getIdPage(String cacheKey, Pageable pageable, Supplier<? extends Slice<FundingResponseDto>> loader) {
+        boolean donationSensitive = pageable.getSort().stream()
+                .anyMatch(order -> DONATION_MUTABLE_SORT_PROPERTIES.contains(order.getProperty()));
+        Function<FundingIdPageCache, List<Long>> pageContents = donationSensitive ? FundingIdPageCache::getIds : null;
+        return getOrLoad(cacheKey, new TypeReference<FundingIdPageCache>() {}, () -> {
+            long start = System.currentTimeMillis();
+            Slice<FundingResponseDto> fundings = loader.get();
+            // 목록 조회로 함께 채운 펀딩별 캐시도 조회 소요 시간을 기록하여 XFetch 조기 갱신 대상이 되도록 함
+            long delta = System.currentTimeMillis() - start;
+            List<Long> ids = fundings.getContent().stream().map(FundingResponseDto::getId).toList();
+            // 조회 중에 evictFunding 된 펀딩은 이전 값이므로 펀딩별 캐시에 저장하지 않음 (저장 후 다시 확인하여 엇갈린 경우 삭제)
+            Set<Long> evicted = evictedSince(ids, start);
+            for (FundingResponseDto funding : fundings.getContent()) {
+                if (!evicted.contains(funding.getId())) {
+                    saveToFundingCache(buildFundingCacheKey(FUNDING_DETAIL_CACHE_PREFIX, funding.getId().toString()), newEntry(funding, delta));
+                }
+            }
+            List<String> staleKeys = evictedSince(ids, start).stream()
+                    .filter(id -> !evicted.contains(id))
+                    .map(id -> buildFundingCacheKey(FUNDING_DETAIL_CACHE_PREFIX, id.toString()))
+                    .toList();
+            if (!staleKeys.isEmpty()) {
+                discard(staleKeys);
+            }
+            long totalElements = fundings instanceof Page<FundingResponseDto> page ? page.getTotalElements() : ids.size();
+            return new FundingIdPageCache(ids, fundings.getNumber(), fundings.getSize(), fundings.isLast(), totalElements);
+        }, pageContents);
+    }
+
+    /**
+     * 펀딩 ID 목록 순서대로 펀딩 정보를 가져옵니다.
+     * L1 -> L2(MGET 한 번) -> entityLoader(DB 한 번) 순서로 조회하고, DB에서 조회한 값은 캐시에 저장합니다.
+     * 삭제되어 조회되지 않는 펀딩은 결과에서 제외됩니다.
+     *
+     * @param ids 펀딩 ID 목록
+     * @param entityLoader 캐시에 없는 펀딩을 ID로 조회하는 로직
+     * @return 펀딩 정보 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<FundingResponseDto> getFundings(List<Long> ids, Function<List<Long>, List<FundingResponseDto>> entityLoader) {
+        long version = getFundingCacheVersion();
+        Map<Long, FundingResponseDto> fundings = new HashMap<>();
+
+        List<Long> l1Misses = new ArrayList<>();
+        for (Long id : ids) {
+            Object cached = localCache.getIfPresent(buildFundingCacheKey(FUNDING_DETAIL_CACHE_PREFIX, id.toString(), version));
+            recordCacheAccess(FUNDING_DETAIL_CACHE_PREFIX, "l1", cached != null);
+            if (cached != null) {
+                fundings.put(id, ((FundingCacheEntry<FundingResponseDto>) cached).getValue());
+            } else {
+                l1Misses.add(id);
+            }
+        }
 
-        // 기존의 펀딩 리스트 관련 캐시 삭제
-        clearCacheByPattern("allFundings:*");
-        clearCacheByPattern("activeFundings:*");
-        clearCacheByPattern("finishedFundings:*");
-        clearCacheByPattern("MyFundingInfo:*");
+        List<Long> l2Misses = new ArrayList<>();
+        if (!l1Misses.isEmpty()) {
+            List<String> keys = l1Misses.stream()
+                    .map(id -> buildFundingCacheKey(FUNDING_DETAIL_CACHE_PREFIX, id.toString(), version))
+                    .toList();
+            List<byte[]> contents = binaryRedisTemplate.opsForValue().multiGet(keys);
+            JavaType entryType = objectMapper.getTypeFactory().constructParametricType(FundingCacheEntry.class, FundingResponseDto.class);
+            for (int i = 0; i < l1Misses.size(); i++) {
+                FundingCacheEntry<FundingResponseDto> entry = decodeEntry(keys.get(i), contents == null ? null : contents.get(i), entryType);
+                recordCacheAccess(FUNDING_DETAIL_CACHE_PREFIX, "l2", entry != null);
+                if (entry != null) {
+                    localCache.put(keys.get(i), entry);
+                    fundings.put(l1Misses.get(i), entry.getValue());
+                } else {
+                    l2Misses.add(l1Misses.get(i));
+                }
+            }
+        }
 
-        // 상세 페이지 캐시 삭제 추가
-        clearCacheByPattern("fundingDetail:*");
+        if (!l2Misses.isEmpty()) {
+            long start = System.currentTimeMillis();
+            List<FundingResponseDto> loaded = entityLoader.apply(l2Misses);
+            long delta = System.currentTimeMillis() - start;
+            meterRegistry.counter("funding.cache.loads", "cache", FUNDING_DETAIL_CACHE_PREFIX, "reason", "miss").increment();
+            for (FundingResponseDto funding : loaded) {
+                saveToFundingCache(buildFundingCacheKey(FUNDING_DETAIL_CACHE_PREFIX, funding.getId().toString(), version), newEntry(funding, delta));
+                fundings.put(funding.getId(), funding);
+            }
+        }
+
+        List<FundingResponseDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            FundingResponseDto funding = fundings.get(id);
+            if (funding != null) {
+                result.add(funding);
+            }
+        }
+        return result;
+    }
 
-        // Giftipie에서 함께한 선물 캐시 삭제
-        clearCacheByPattern(FUNDING_SUMMARY_CACHE_KEY);
+    /**
+     * 목록 페이지에 포함된 각 펀딩의 역인덱스에 페이지 캐시 키를 등록합니다.
+     *
+     * @param cacheKey 목록 페이지 캐시 키
+     * @param fundingIds 페이지에 포함된 펀딩 ID 목록
+     */
+    private void registerPageKey(String cacheKey, List<Long> fundingIds) {
+        long version = getFundingCacheVersion();
+        for (Long fundingId : fundingIds) {
+            String indexKey = buildFundingCacheKey(FUNDING_PAGE_INDEX_PREFIX, fundingId.toString(), version);
+            redisTemplate.opsForSet().add(indexKey, cacheKey);
+            redisTemplate.expire(indexKey, FUNDING_CACHE_TTL);
+        }
     }
 
     /**
-     * 입력받은 패턴의 캐시키로 캐시 값 삭제
-     * @param pattern 캐시키의 패턴
+     * 무효화 메시지를 받아 L1 캐시를 비웁니다.
+     *
+     * @param message "*" 이면 전체, 그 외에는 ','로 구분된 캐시 키
      */
-    public void clearCacheByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
+    private void invalidateLocal(String message) {
+        if (INVALIDATE_ALL.equals(message)) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidateAll(Arrays.asList(message.split(",")));
         }
     }
+
+    private RTopic invalidationTopic() {
+        return redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 캐시 조회 결과를 캐시 종류, 계층(l1 / l2)별 hit / miss 카운터로 기록합니다.
+     * ex) funding.cache.requests{cache=fundingDetail, tier=l1, result=hit}
+     *
+     * @param cacheKey 조회한 캐시 키
+     * @param tier 캐시 계층
+     * @param hit 캐시 적중 여부
+     */
+    private void recordCacheAccess(String cacheKey, String tier, boolean hit) {
+        meterRegistry.counter("funding.cache.requests", "cache", cacheName(cacheKey), "tier", tier, "result", hit ? "hit" : "miss").increment();
+    }
+
+    // 캐시 키의 첫 구분자 앞부분을 캐시 종류로 사용 ex) fundingDetail:v3:15 -> fundingDetail
+    private String cacheName(String cacheKey) {
+        int separator = cacheKey.indexOf(':');
+        return separator < 0 ? cacheKey : cacheKey.substring(0, separator);
+    }
 }
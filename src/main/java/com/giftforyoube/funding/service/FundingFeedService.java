@@ -0,0 +1,364 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.funding.dto.FundingIdPageCache;
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingSortType;
+import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.funding.repository.FundingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공개 펀딩 목록(전체 / 진행중 / 종료)을 Redis Sorted Set으로 관리합니다.
+ * 목록 조회 시 DB의 OFFSET / LIMIT 대신 ZRANGE로 펀딩 ID를 가져오므로 깊은 페이지도 일정한 속도로 조회됩니다.
+ * ex) fundingFeed:ACTIVE:endDate -> { 펀딩 ID : 마감일 점수 }
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FundingFeedService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FundingRepository fundingRepository;
+    private final RedissonClient redissonClient;
+    @Qualifier("applicationTaskExecutor")
+    private final TaskExecutor taskExecutor;
+
+    private static final String FEED_KEY_PREFIX = "fundingFeed:";
+    // 재구축이 한 번이라도 완료되어야 목록 조회에 사용 (콜드 스타트 시 DB 조회로 대체)
+    // 정렬 기준(FundingSortType)이 바뀌면 버전을 올려 배포 시 다시 만들어지도록 함
+    private static final String FEED_READY_KEY = "fundingFeed:ready:v2";
+    private static final String FEED_REBUILD_LOCK_KEY = "fundingFeedRebuildLock";
+    // 재구축 중 표시 : 재구축하는 동안의 인덱스 갱신을 임시 키에도 반영하여 교체 시 유실되지 않도록 함 (서버가 죽어도 만료되도록 TTL)
+    private static final String FEED_REBUILDING_KEY = "fundingFeed:rebuilding";
+    private static final Duration FEED_REBUILDING_TTL = Duration.ofMinutes(30);
+    // 인덱스 유실 감지 시 재구축 요청 : 요청이 몰려도 주기당 한 번만 재구축
+    private static final String FEED_REBUILD_REQUEST_KEY = "fundingFeed:rebuildRequested";
+    private static final Duration FEED_REBUILD_REQUEST_COOLDOWN = Duration.ofMinutes(10);
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String ALL_SCOPE = "all";
+    private static final List<String> SCOPES = List.of(ALL_SCOPE, FundingStatus.ACTIVE.name(), FundingStatus.FINISHED.name());
+    private static final List<String> SORT_KEYS = Arrays.stream(FundingSortType.values()).map(FundingSortType::getProperty).toList();
+    // 후원으로만 바뀌고 줄어들지 않는 정렬 기준 : 동시 후원 반영 시 기존 점수보다 클 때만 갱신
+    private static final List<String> INCREASING_SORT_KEYS = List.of(
+            FundingSortType.ACHIEVEMENT_RATE.getProperty(), FundingSortType.DONATION_COUNT.getProperty());
+    private static final RedisZSetCommands.ZAddArgs GREATER_THAN = RedisZSetCommands.ZAddArgs.empty().gt();
+    private static final RedisZSetCommands.ZAddArgs EXISTING_GREATER_THAN = RedisZSetCommands.ZAddArgs.empty().ifExists().gt();
+    // 점수가 같은 펀딩은 ID 순으로 정렬되도록 점수 하위 자리에 ID를 더함 (double 정밀도 범위 내)
+    private static final double ID_TIEBREAK = 1e10;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    /**
+     * Sorted Set에서 펀딩 ID 목록 한 페이지를 조회합니다.
+     *
+     * @param status 펀딩 상태, 전체 목록이면 null
+     * @param sortBy 정렬 기준 (FundingSortType)
+     * @param sortOrder 정렬 방향 (asc, desc)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 펀딩 ID 페이지, 지원하지 않는 정렬 기준이거나 인덱스가 준비되지 않았다면(유실 포함) null
+     */
+    public FundingIdPageCache getPage(FundingStatus status, String sortBy, String sortOrder, int page, int size) {
+        if (!SORT_KEYS.contains(sortBy)) {
+            return null;
+        }
+        // 준비 표시나 목록 키가 없으면 (콜드 스타트, 메모리 부족으로 인한 삭제, FLUSH 등) DB 조회로 대체하고 재구축 요청
+        // 해당 목록에 속한 펀딩이 실제로 없는 경우에도 키가 없으므로 DB 조회 결과(빈 목록)를 그대로 사용
+        String feedKey = buildFeedKey(status == null ? ALL_SCOPE : status.name(), sortBy);
+        Long totalElements = redisTemplate.opsForZSet().zCard(feedKey);
+        if (totalElements == null || totalElements == 0 || !Boolean.TRUE.equals(redisTemplate.hasKey(FEED_READY_KEY))) {
+            requestRebuild();
+            return null;
+        }
+        long start = (long) page * size;
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Set<String> members = "asc".equalsIgnoreCase(sortOrder)
+                ? redisTemplate.opsForZSet().range(feedKey, start, start + size)
+                : redisTemplate.opsForZSet().reverseRange(feedKey, start, start + size);
+
+        List<Long> ids = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                if (ids.size() == size) {
+                    break;
+                }
+                ids.add(Long.valueOf(member));
+            }
+        }
+        boolean last = members == null || members.size() <= size;
+        return new FundingIdPageCache(ids, page, size, last, totalElements);
+    }
+
+    /**
+     * 펀딩의 현재 상태에 맞게 인덱스를 갱신합니다. (생성, 수정, 종료, 후원 시)
+     *
+     * @param funding 갱신할 Funding
+     */
+    public void index(Funding funding) {
+        indexAll(List.of(funding));
+    }
+
+    /**
+     * 여러 펀딩의 인덱스를 한 번에(pipeline) 갱신합니다.
+     * 공개 펀딩은 전체 / 상태별 목록에 추가(점수 갱신)하고, 속하지 않는 목록에서는 제거합니다.
+     * 재구축 중이면 재구축용 임시 키에도 같이 반영하여, 임시 키로 교체될 때 이 갱신이 유실되지 않도록 합니다.
+     * 인덱스 갱신 실패가 요청 실패로 이어지지 않도록 예외는 기록만 하고, 주기적인 재구축으로 보정합니다.
+     *
+     * @param fundings 갱신할 Funding 목록
+     */
+    public void indexAll(List<Funding> fundings) {
+        if (fundings.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> suffixes = activeSuffixes();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                    for (Funding funding : fundings) {
+                        String member = funding.getId().toString();
+                        for (String scope : SCOPES) {
+                            boolean included = funding.isPublicFlag()
+                                    && (ALL_SCOPE.equals(scope) || funding.getStatus().name().equals(scope));
+                            for (String sortKey : SORT_KEYS) {
+                                for (String suffix : suffixes) {
+                                    String feedKey = buildFeedKey(scope, sortKey) + suffix;
+                                    if (included) {
+                                        redisOperations.opsForZSet().add(feedKey, member, score(funding, sortKey));
+                                    } else {
+                                        redisOperations.opsForZSet().remove(feedKey, member);
+                                    }
+                                }
+                            }
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("[indexAll] 펀딩 목록 인덱스 갱신 실패: " + fundings.size() + "건", e);
+        }
+    }
+
+    /**
+     * 후원 반영 후 달성률 / 후원 횟수 점수를 갱신합니다.
+     * 여러 워커가 동시에 반영하면 먼저 읽은(오래된) 펀딩 값이 나중에 기록될 수 있으므로,
+     * 두 값이 늘어나기만 한다는 점을 이용해 기존 점수보다 클 때만 갱신합니다. (ZADD GT)
+     * 이 후원으로 종료되지 않았다면 이미 속한 목록의 점수만 갱신하여(ZADD XX), 오래된 진행중 상태로 종료 목록에서 되돌아가지 않도록 합니다.
+     *
+     * @param funding 후원 반영 후 다시 조회한 Funding
+     * @param finished 이 후원으로 펀딩이 종료되었는지 여부 (종료 시 진행중 -> 종료 목록으로 이동)
+     */
+    public void indexDonation(Funding funding, boolean finished) {
+        try {
+            List<String> suffixes = activeSuffixes();
+            RedisSerializer<String> serializer = RedisSerializer.string();
+            byte[] member = serializer.serialize(funding.getId().toString());
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String scope : SCOPES) {
+                    boolean included = funding.isPublicFlag()
+                            && (ALL_SCOPE.equals(scope) || funding.getStatus().name().equals(scope));
+                    for (String sortKey : SORT_KEYS) {
+                        boolean increasing = INCREASING_SORT_KEYS.contains(sortKey);
+                        for (String suffix : suffixes) {
+                            byte[] feedKey = serializer.serialize(buildFeedKey(scope, sortKey) + suffix);
+                            // 재구축용 임시 키는 아직 항목이 없을 수 있으므로 종료 여부와 관계없이 속한 목록에 추가
+                            boolean move = finished || REBUILD_SUFFIX.equals(suffix);
+                            if (move && included) {
+                                connection.zSetCommands().zAdd(feedKey, score(funding, sortKey), member,
+                                        increasing ? GREATER_THAN : RedisZSetCommands.ZAddArgs.empty());
+                            } else if (finished && !included) {
+                                connection.zSetCommands().zRem(feedKey, member);
+                            } else if (!move && increasing) {
+                                connection.zSetCommands().zAdd(feedKey, score(funding, sortKey), member, EXISTING_GREATER_THAN);
+                            }
+                        }
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("[indexDonation] 펀딩 목록 인덱스 갱신 실패: " + funding.getId(), e);
+        }
+    }
+
+    /**
+     * 삭제된 펀딩을 모든 목록 인덱스에서 제거합니다.
+     *
+     * @param fundingId 삭제된 Funding의 ID
+     */
+    public void remove(Long fundingId) {
+        try {
+            List<String> suffixes = activeSuffixes();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                    for (String suffix : suffixes) {
+                        for (String feedKey : allFeedKeys(suffix)) {
+                            redisOperations.opsForZSet().remove(feedKey, fundingId.toString());
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("[remove] 펀딩 목록 인덱스 삭제 실패: " + fundingId, e);
+        }
+    }
+
+    /**
+     * DB의 공개 펀딩으로 인덱스를 다시 만듭니다. (콜드 스타트, 주기적 보정)
+     * 임시 키에 ID 순으로 나누어(keyset) 채운 뒤 RENAME으로 교체하므로, 재구축 중에도 기존 인덱스로 조회할 수 있습니다.
+     * 재구축 중의 인덱스 갱신은 임시 키에도 반영되고(index), DB에서 읽은 값은 이미 있는 항목을 덮어쓰지 않으므로(ZADD NX)
+     * 더 최신인 갱신이 유지됩니다. 교체 후에는 재구축 중에 수정된 펀딩을 DB 기준으로 한 번 더 반영합니다.
+     * 여러 서버가 동시에 재구축하지 않도록 락을 획득한 서버만 실행합니다.
+     */
+    public void rebuild() {
+        RLock lock = redissonClient.getLock(FEED_REBUILD_LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.info("[rebuild] 다른 서버에서 펀딩 목록 인덱스 재구축 중");
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<String> rebuildKeys = allFeedKeys(REBUILD_SUFFIX);
+            redisTemplate.delete(rebuildKeys);
+            redisTemplate.opsForValue().set(FEED_REBUILDING_KEY, "true", FEED_REBUILDING_TTL);
+
+            long lastId = 0;
+            int indexedCount = 0;
+            List<Funding> fundings;
+            do {
+                fundings = fundingRepository.findTop1000ByPublicFlagTrueAndIdGreaterThanOrderByIdAsc(lastId);
+                addAll(fundings);
+                indexedCount += fundings.size();
+                if (!fundings.isEmpty()) {
+                    lastId = fundings.get(fundings.size() - 1).getId();
+                }
+            } while (fundings.size() == REBUILD_CHUNK_SIZE);
+
+            for (String feedKey : allFeedKeys("")) {
+                String rebuildKey = feedKey + REBUILD_SUFFIX;
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(rebuildKey))) {
+                    redisTemplate.rename(rebuildKey, feedKey);
+                } else {
+                    redisTemplate.delete(feedKey); // 해당 목록에 속한 펀딩이 없음
+                }
+            }
+            redisTemplate.opsForValue().set(FEED_READY_KEY, "true");
+            redisTemplate.delete(FEED_REBUILDING_KEY);
+
+            // 재구축 중에 상태가 바뀐 펀딩은 먼저 읽은 묶음의 값이 남아 있을 수 있으므로 DB 기준으로 다시 반영
+            List<Funding> modifiedFundings = fundingRepository.findAllByModifiedAtGreaterThanEqual(startedAt);
+            indexAll(modifiedFundings);
+            log.info("[rebuild] 펀딩 목록 인덱스 재구축 완료: " + indexedCount + "건, 재구축 중 수정 " + modifiedFundings.size() + "건");
+        } finally {
+            redisTemplate.delete(FEED_REBUILDING_KEY); // 재구축 실패 시에도 표시 제거
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 인덱스가 한 번도 만들어지지 않았다면 재구축합니다.
+     */
+    public void rebuildIfAbsent() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(FEED_READY_KEY))) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 인덱스 유실이 감지되면 재구축을 비동기로 요청합니다. 요청이 몰려도 주기(FEED_REBUILD_REQUEST_COOLDOWN)당 한 번만 실행합니다.
+     */
+    private void requestRebuild() {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FEED_REBUILD_REQUEST_KEY, "true", FEED_REBUILD_REQUEST_COOLDOWN))) {
+            return;
+        }
+        try {
+            log.warn("[requestRebuild] 펀딩 목록 인덱스가 없어 재구축 요청");
+            taskExecutor.execute(this::rebuild);
+        } catch (TaskRejectedException e) {
+            redisTemplate.delete(FEED_REBUILD_REQUEST_KEY);
+            log.warn("[requestRebuild] 재구축 작업 거부, 다음 조회 시 다시 요청");
+        }
+    }
+
+    // 갱신을 반영할 키 접미사 : 평소에는 기존 키, 재구축 중이면 임시 키 포함
+    private List<String> activeSuffixes() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(FEED_REBUILDING_KEY)) ? List.of("", REBUILD_SUFFIX) : List.of("");
+    }
+
+    // 재구축용 임시 키에 펀딩 목록을 한 번에(pipeline) 추가, 재구축 중 갱신으로 이미 들어간 항목은 덮어쓰지 않음 (ZADD NX)
+    private void addAll(List<Funding> fundings) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                for (Funding funding : fundings) {
+                    String member = funding.getId().toString();
+                    for (String sortKey : SORT_KEYS) {
+                        double score = score(funding, sortKey);
+                        redisOperations.opsForZSet().addIfAbsent(buildFeedKey(ALL_SCOPE, sortKey) + REBUILD_SUFFIX, member, score);
+                        redisOperations.opsForZSet().addIfAbsent(buildFeedKey(funding.getStatus().name(), sortKey) + REBUILD_SUFFIX, member, score);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 정렬 기준별 점수를 계산합니다.
+     * - createdAt : ID (IDENTITY 라 생성 순서와 같고 중복이 없음, 생성 시각(ms)은 같은 값이 생길 수 있고 ID를 더하면 double 정밀도를 넘음)
+     * - endDate : 마감일(epoch day) + ID
+     * - achievementRate : 목표 금액 대비 달성률(%) + ID
+     * - donationCount : 후원 횟수 + ID
+     */
+    private double score(Funding funding, String sortKey) {
+        return switch (sortKey) {
+            case "createdAt" -> funding.getId();
+            case "endDate" -> funding.getEndDate().toEpochDay() * ID_TIEBREAK + funding.getId();
+            case "achievementRate" -> funding.getAchievementRate() * ID_TIEBREAK + funding.getId();
+            default -> funding.getDonationCount() * ID_TIEBREAK + funding.getId();
+        };
+    }
+
+    private List<String> allFeedKeys(String suffix) {
+        List<String> keys = new ArrayList<>();
+        for (String scope : SCOPES) {
+            for (String sortKey : SORT_KEYS) {
+                keys.add(buildFeedKey(scope, sortKey) + suffix);
+            }
+        }
+        return keys;
+    }
+
+    private String buildFeedKey(String scope, String sortKey) {
+        return FEED_KEY_PREFIX + scope + ":" + sortKey;
+    }
+}
@@ -5,10 +5,10 @@ import com.giftforyoube.donation.repository.DonationRepository;
 import com.giftforyoube.funding.dto.*;
 import com.giftforyoube.funding.entity.Funding;
 import com.giftforyoube.funding.entity.FundingItem;
+import com.giftforyoube.funding.entity.FundingSortType;
 import com.giftforyoube.funding.entity.FundingStatus;
-import com.giftforyoube.funding.entity.FundingSummary;
 import com.giftforyoube.funding.repository.FundingRepository;
-import com.giftforyoube.funding.repository.FundingSummaryRepository;
+import com.giftforyoube.global.config.AsyncConfig;
 import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.user.entity.User;
@@ -21,14 +21,23 @@ import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.*;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -40,10 +49,15 @@ public class FundingService {
     private final UserRepository userRepository;
     private final RedissonClient redissonClient;
     private final DonationRepository donationRepository;
-    private final FundingSummaryRepository fundingSummaryRepository;
+    private final FundingSummaryService fundingSummaryService;
     private final CacheService cacheService;
+    private final FundingFeedService fundingFeedService;
+    @Qualifier(AsyncConfig.LINK_PREVIEW_TASK_EXECUTOR)
+    private final AsyncTaskExecutor linkPreviewTaskExecutor;
 
     private static final int TIMEOUT = 10000; // 10초
+    private static final int PREVIEW_WAIT_TIMEOUT = TIMEOUT + 5000; // 미리보기 스레드 풀 대기열에서 기다리는 시간 포함
+    private static final int MAX_CURSOR_PAGE_SIZE = 100; // 커서 페이지네이션 최대 페이지 크기
 
     /**
      * 락을 획득한 후에 로직 진행
@@ -122,6 +136,7 @@ public class FundingService {
             Funding funding = requestDto.toEntity(fundingItem, status);
             funding.setUser(user);
             fundingRepository.save(funding);
+            afterCommit(() -> fundingFeedService.index(funding));
             cacheService.clearCache(userCacheKey);
             cacheService.clearFundingCaches();
             return FundingResponseDto.fromEntity(funding);
@@ -137,28 +152,19 @@ public class FundingService {
 
     /**
      * 찾으려고하는 캐시의 키값을 통해 캐시에서 해당 펀딩을 조회합니다.
-     * 없다면 DB에서 조회합니다.
+     * 없다면 DB에서 조회합니다. (같은 키에 대한 동시 캐시 미스는 한 번만 DB 조회)
      *
      * @param fundingId 조회할 Funding의 ID값
      * @return 조회된 펀딩의 FundingResponseDto 반환
      */
-    @Transactional(readOnly = true)
     public FundingResponseDto findFunding(Long fundingId) {
-        String cacheKey = "fundingDetail:" + fundingId;
-        // 캐시에서 조회 시도
-        FundingResponseDto cachedFunding = cacheService.getFundingFromCache(cacheKey);
-        if (cachedFunding != null) {
-            return cachedFunding;
-        }
-
-        // DB에서 조회
-        Funding funding = fundingRepository.findById(fundingId)
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.FUNDING_NOT_FOUND));
-        FundingResponseDto fundingResponseDto = FundingResponseDto.fromEntity(funding);
-
-        // 결과를 캐시에 저장
-        cacheService.saveFundingToCache(cacheKey, fundingResponseDto);
-        return fundingResponseDto;
+        String cacheKey = cacheService.buildFundingCacheKey("fundingDetail", fundingId.toString());
+        // 캐시에서 조회 시도, 없다면 DB에서 조회 후 캐시에 저장
+        return cacheService.getFunding(cacheKey, () -> {
+            Funding funding = fundingRepository.findById(fundingId)
+                    .orElseThrow(() -> new BaseException(BaseResponseStatus.FUNDING_NOT_FOUND));
+            return FundingResponseDto.fromEntity(funding);
+        });
     }
 
     /**
@@ -169,130 +175,166 @@ public class FundingService {
      * @return 현재 로그인한 User의 진행중인 펀딩의 FundingResponseDto 반환
      */
     // 메인페이지에 보여질 내 펀딩 정보
-    @Transactional(readOnly = true)
     public FundingResponseDto getMyFundingInfo(User currentUser) {
         log.info("[getMyFundingInfo] 내 펀딩 정보 조회");
 
-        String cacheKey = "MyFundingInfo:" + currentUser.getId();
-        // 캐시에서 조회 시도
-        FundingResponseDto cachedFunding = cacheService.getFundingFromCache(cacheKey);
-        if (cachedFunding != null) {
-            return cachedFunding;
-        }
-
-        Funding funding = fundingRepository.findByUserIdAndStatus(currentUser.getId(), FundingStatus.ACTIVE);
-        if (funding == null) {
-            return FundingResponseDto.emptyDto();
-        }
-
-        FundingResponseDto fundingResponseDto = FundingResponseDto.fromEntity(funding);
-        // 결과를 캐시에 저장
-        cacheService.saveFundingToCache(cacheKey, fundingResponseDto);
-
-        return fundingResponseDto;
+        String cacheKey = cacheService.buildFundingCacheKey("MyFundingInfo", currentUser.getId().toString());
+        // 캐시에서 조회 시도, 없다면 DB에서 조회 후 캐시에 저장 (진행중인 펀딩이 없으면 캐시하지 않음)
+        FundingResponseDto myFunding = cacheService.getFunding(cacheKey, () -> {
+            Funding funding = fundingRepository.findByUserIdAndStatus(currentUser.getId(), FundingStatus.ACTIVE);
+            return funding == null ? null : FundingResponseDto.fromEntity(funding);
+        });
+        return myFunding == null ? FundingResponseDto.emptyDto() : myFunding;
     }
 
     /**
-     * 찾으려고 하는 캐시의 키값을 통해 캐시에서 진행중인 펀딩 목록을 가져옵니다.
-     * 없다면 DB에서 조회합니다.
+     * 펀딩 목록 인덱스(Sorted Set)에서 진행중인 펀딩 목록을 가져옵니다.
+     * 인덱스로 조회할 수 없는 정렬 기준이면 캐시에서, 없다면 DB에서 조회합니다.
      * @return 컨트롤러에서 전달받은 데이터 개수 만큼 조회된 진행중인 펀딩 페이지네이션 반환
      */
-    @Transactional(readOnly = true)
     public Page<FundingResponseDto> getActiveMainFunding(int page, int size, String sortBy, String sortOrder) {
         log.info("[getActiveMainFundings] 메인페이지 진행중인 펀딩 조회");
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy));
-        String cacheKey = "activeMainFundings:" + page + ":" + size + ":" + sortBy + ":" + sortOrder;
-
-        // 캐시에서 조회 시도
-        Page<FundingResponseDto> cachedPage = cacheService.getFundingPageFromCache(cacheKey, pageable);
-        if (cachedPage != null) {
-            return cachedPage;
+        Pageable pageable = buildPageable(page, size, sortBy, sortOrder);
+        FundingIdPageCache feedPage = fundingFeedService.getPage(null, sortBy, sortOrder, page, size);
+        if (feedPage != null) {
+            return new PageImpl<>(cacheService.getFundings(feedPage.getIds(), this::loadFundings), pageable, feedPage.getTotalElements());
         }
+        String cacheKey = cacheService.buildFundingCacheKey("activeMainFundings", page + ":" + size + ":" + sortBy + ":" + sortOrder);
 
-        // DB에서 조회
-        Page<Funding> mainFundings = fundingRepository.findAllAndPublicFlagTrue(pageable);
-        Page<FundingResponseDto> fundingResponseDtoPage = mainFundings.map(FundingResponseDto::fromEntity);
-
-        // 결과를 캐시에 저장
-        cacheService.saveFundingPageToCache(cacheKey, fundingResponseDtoPage);
-
-        return fundingResponseDtoPage;
+        // 캐시에서 조회 시도, 없다면 DB에서 조회 후 캐시에 저장
+        return cacheService.getFundingPage(cacheKey, pageable,
+                () -> fundingRepository.findAllAndPublicFlagTrue(pageable).map(FundingResponseDto::fromEntity), this::loadFundings);
     }
 
     /**
-     * 찾으려고 하는 캐시의 키값을 통해 캐시에서 모든 펀딩 목록을 가져옵니다.
-     * 없다면 DB에서 조회합니다.
+     * 펀딩 목록 인덱스(Sorted Set)에서 펀딩 목록을 가져옵니다.
+     * 인덱스로 조회할 수 없는 정렬 기준이면 캐시에서, 없다면 DB에서 조회합니다.
      * @return 현재 등록된 모든 펀딩들 페이지네이션 반환
      */
-    @Transactional(readOnly = true)
     public Page<FundingResponseDto> getAllFundings(int page, int size, String sortBy, String sortOrder) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy));
-        String cacheKey = "allFundings:" + page + ":" + size + ":" + sortBy + ":" + sortOrder;
-
-        // 캐시에서 조회 시도
-        Page<FundingResponseDto> cachedFundings = cacheService.getFundingsPageFromCache(cacheKey, pageable);
-        if (cachedFundings != null && !cachedFundings.isEmpty()) {
-            return cachedFundings;
+        Pageable pageable = buildPageable(page, size, sortBy, sortOrder);
+        FundingIdPageCache feedPage = fundingFeedService.getPage(null, sortBy, sortOrder, page, size);
+        if (feedPage != null) {
+            return new PageImpl<>(cacheService.getFundings(feedPage.getIds(), this::loadFundings), pageable, feedPage.getTotalElements());
         }
+        String cacheKey = cacheService.buildFundingCacheKey("allFundings", page + ":" + size + ":" + sortBy + ":" + sortOrder);
 
-        // DB에서 조회
-        Page<Funding> allFunding = fundingRepository.findAllAndPublicFlagTrue(pageable);
-        Page<FundingResponseDto> allFundings = allFunding.map(FundingResponseDto::fromEntity);
-
-        // 결과를 캐시에 저장
-        cacheService.saveFundingsPageToCache(cacheKey, allFundings);
-
-        return allFundings;
+        // 캐시에서 조회 시도, 없다면 DB에서 조회 후 캐시에 저장
+        return cacheService.getFundingPage(cacheKey, pageable,
+                () -> fundingRepository.findAllAndPublicFlagTrue(pageable).map(FundingResponseDto::fromEntity), this::loadFundings);
     }
 
     /**
-     * 찾으려고 하는 캐시의 키값을 통해 캐시에서 모든 펀딩 목록을 가져옵니다.
-     * 없다면 DB에서 조회합니다.
+     * 펀딩 목록 인덱스(Sorted Set)에서 펀딩 목록을 가져옵니다.
+     * 인덱스로 조회할 수 없는 정렬 기준이면 캐시에서, 없다면 DB에서 조회합니다.
      * @return 현재 등록된 진행중인 펀딩들 페이지네이션 반환
      */
     // Slice - Page 페이지네이션 수정 적용
-    @Transactional(readOnly = true)
     public Slice<FundingResponseDto> getActiveFundings(int page, int size, String sortBy, String sortOrder) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy));
-        String cacheKey = "activeFundings:" + page + ":" + size + ":" + sortBy + ":" + sortOrder;
-
-        // 캐시에서 조회 시도
-        Slice<FundingResponseDto> cachedFundings = cacheService.getFundingListFromCache(cacheKey, pageable);
-        if (cachedFundings != null && !cachedFundings.isEmpty()) {
-            return cachedFundings;
+        Pageable pageable = buildPageable(page, size, sortBy, sortOrder);
+        FundingIdPageCache feedPage = fundingFeedService.getPage(FundingStatus.ACTIVE, sortBy, sortOrder, page, size);
+        if (feedPage != null) {
+            return new SliceImpl<>(cacheService.getFundings(feedPage.getIds(), this::loadFundings), PageRequest.of(page, size), feedPage.isLast());
         }
+        String cacheKey = cacheService.buildFundingCacheKey("activeFundings", page + ":" + size + ":" + sortBy + ":" + sortOrder);
 
-        // DB에서 조회 및 캐시 저장
-        Slice<FundingResponseDto> activeFundings = fundingRepository.findByStatusAndPublicFlagTrue(FundingStatus.ACTIVE, pageable).map(FundingResponseDto::fromEntity);
-        cacheService.saveFundingListToCache(cacheKey, activeFundings);
-
-        return activeFundings;
+        // 캐시에서 조회 시도, 없다면 DB에서 조회 및 캐시 저장
+        return cacheService.getFundingList(cacheKey, pageable,
+                () -> fundingRepository.findByStatusAndPublicFlagTrue(FundingStatus.ACTIVE, pageable).map(FundingResponseDto::fromEntity), this::loadFundings);
     }
 
     /**
-     * 찾으려고 하는 캐시의 키값을 통해 캐시에서 모든 펀딩 목록을 가져옵니다.
-     * 없다면 DB에서 조회합니다.
+     * 펀딩 목록 인덱스(Sorted Set)에서 펀딩 목록을 가져옵니다.
+     * 인덱스로 조회할 수 없는 정렬 기준이면 캐시에서, 없다면 DB에서 조회합니다.
      * @return 현재 등록된 완료된 펀딩들 페이지네이션 반환
      */
     // 완료된 펀딩 페이지네이션 적용
     // 완료된 펀딩 조회
-    @Transactional(readOnly = true)
     public Slice<FundingResponseDto> getFinishedFundings(int page, int size, String sortBy, String sortOrder) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy));
-        String cacheKey = "finishedFundings:" + page + ":" + size + ":" + sortBy + ":" + sortOrder;
+        Pageable pageable = buildPageable(page, size, sortBy, sortOrder);
+        FundingIdPageCache feedPage = fundingFeedService.getPage(FundingStatus.FINISHED, sortBy, sortOrder, page, size);
+        if (feedPage != null) {
+            return new SliceImpl<>(cacheService.getFundings(feedPage.getIds(), this::loadFundings), PageRequest.of(page, size), feedPage.isLast());
+        }
+        String cacheKey = cacheService.buildFundingCacheKey("finishedFundings", page + ":" + size + ":" + sortBy + ":" + sortOrder);
+
+        // 캐시에서 조회 시도, 없다면 DB에서 조회 및 캐시 저장
+        return cacheService.getFundingList(cacheKey, pageable,
+                () -> fundingRepository.findByStatusAndPublicFlagTrue(FundingStatus.FINISHED, pageable).map(FundingResponseDto::fromEntity), this::loadFundings);
+    }
+
+    /**
+     * 지원하는 정렬 기준(FundingSortType)인지 확인하고 페이지 정보를 만듭니다.
+     * 같은 값의 펀딩은 ID 순으로 정렬하여 인덱스 (정렬 컬럼, id) 순서 그대로 조회되도록 합니다.
+     */
+    private Pageable buildPageable(int page, int size, String sortBy, String sortOrder) {
+        FundingSortType sortType = FundingSortType.from(sortBy);
+        Sort.Direction direction = sortOrder.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return PageRequest.of(page, size, Sort.by(direction, sortType.getProperty(), "id"));
+    }
+
+    /**
+     * 커서 페이지네이션으로 공개된 모든 펀딩 목록을 가져옵니다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 빈 문자열
+     * @return 펀딩 목록과 다음 페이지 커서 반환
+     */
+    public FundingCursorResponseDto getAllFundingsByCursor(String cursor, int size, String sortBy, String sortOrder) {
+        return getFundingsByCursor(null, cursor, size, sortBy, sortOrder);
+    }
+
+    /**
+     * 커서 페이지네이션으로 진행중인 펀딩 목록을 가져옵니다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 빈 문자열
+     * @return 펀딩 목록과 다음 페이지 커서 반환
+     */
+    public FundingCursorResponseDto getActiveFundingsByCursor(String cursor, int size, String sortBy, String sortOrder) {
+        return getFundingsByCursor(FundingStatus.ACTIVE, cursor, size, sortBy, sortOrder);
+    }
 
-        // 캐시에서 조회 시도
-        Slice<FundingResponseDto> cachedFundings = cacheService.getFundingListFromCache(cacheKey, pageable);
-        if (!cachedFundings.getContent().isEmpty()) {
-            return cachedFundings;
+    /**
+     * OFFSET 대신 마지막으로 조회한 펀딩의 (createdAt, id) 이후부터 조회하므로 페이지 깊이와 무관하게 일정한 속도로 조회됩니다.
+     * 다음 페이지 존재 여부는 한 건을 더 조회하여 판단하고, COUNT 쿼리는 실행하지 않습니다.
+     * 페이지 크기는 1 ~ MAX_CURSOR_PAGE_SIZE 로 제한합니다.
+     */
+    private FundingCursorResponseDto getFundingsByCursor(FundingStatus status, String cursor, int size, String sortBy, String sortOrder) {
+        if (FundingSortType.from(sortBy) != FundingSortType.CREATED_AT) {
+            throw new BaseException(BaseResponseStatus.UNSUPPORTED_FUNDING_SORT);
+        }
+        boolean asc = sortOrder.equalsIgnoreCase("asc");
+        FundingCursor position = FundingCursor.decode(cursor, asc);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Funding> fundings;
+        if (status == null) {
+            fundings = asc
+                    ? fundingRepository.findPublicAfterCursor(position.getCreatedAt(), position.getId(), limit)
+                    : fundingRepository.findPublicBeforeCursor(position.getCreatedAt(), position.getId(), limit);
+        } else {
+            fundings = asc
+                    ? fundingRepository.findByStatusAfterCursor(status, position.getCreatedAt(), position.getId(), limit)
+                    : fundingRepository.findByStatusBeforeCursor(status, position.getCreatedAt(), position.getId(), limit);
         }
 
-        // DB에서 조회 및 캐시 저장
-        Slice<FundingResponseDto> finishedFundings = fundingRepository.findByStatusAndPublicFlagTrue(FundingStatus.FINISHED, pageable).map(FundingResponseDto::fromEntity);
-        cacheService.saveFundingListToCache(cacheKey, finishedFundings);
+        boolean last = fundings.size() <= pageSize;
+        List<Funding> content = last ? fundings : fundings.subList(0, pageSize);
+        String nextCursor = last ? null : FundingCursor.of(content.get(content.size() - 1)).encode();
+        return new FundingCursorResponseDto(content.stream().map(FundingResponseDto::fromEntity).toList(), nextCursor, last);
+    }
 
-        return finishedFundings;
+    /**
+     * 목록 캐시의 펀딩 ID 중 펀딩별 캐시에 없는 펀딩들을 한 번에 조회합니다.
+     *
+     * @param fundingIds 조회할 Funding의 ID 목록
+     * @return 조회된 펀딩들의 FundingResponseDto 목록 (순서 보장하지 않음)
+     */
+    private List<FundingResponseDto> loadFundings(List<Long> fundingIds) {
+        return fundingRepository.findAllById(fundingIds).stream()
+                .map(FundingResponseDto::fromEntity)
+                .toList();
     }
 
     /**
@@ -317,6 +359,7 @@ public class FundingService {
 
         funding.setStatus(FundingStatus.FINISHED);
         fundingRepository.save(funding);
+        afterCommit(() -> fundingFeedService.index(funding));
         cacheService.clearFundingCaches();
     }
 
@@ -353,6 +396,7 @@ public class FundingService {
             }
 
             funding.update(requestDto); // 펀딩 내용수정
+            afterCommit(() -> fundingFeedService.index(funding)); // 공개 여부 변경 반영
             cacheService.clearFundingCaches(); // 캐시 무효화
             return FundingResponseDto.fromEntity(funding);
         } catch (InterruptedException e) {
@@ -397,6 +441,7 @@ public class FundingService {
             }
 
             fundingRepository.delete(funding);
+            afterCommit(() -> fundingFeedService.remove(fundingId));
             cacheService.clearFundingCaches(); // 캐시 무효화
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -409,36 +454,30 @@ public class FundingService {
     }
 
 
+    // 펀딩 목록 인덱스 갱신은 커밋 이후에 실행 (롤백된 변경이 인덱스에 남거나, 커밋 전 값으로 인덱스가 먼저 바뀌지 않도록)
+    // 트랜잭션 밖에서 호출되면 바로 실행
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
     /**
      * 캐시에서 통계 데이터를 조회합니다.
-     * 없다면 DB에서 조회하고, DB에도 없다면 정보를 새로 저장합니다.
-     * 등록된 Funding의 통계 정보를 계산해서 업데이트 합니다.
+     * 없다면 DB의 통계 샤드들을 합산하여 캐시에 저장합니다.
      *
      * @return 등록되어있는 펀딩의 통계 반환
      */
-    @Transactional(readOnly = true)
     public FundingSummaryResponseDto getFundingSummary() {
-        // 캐시에서 통계 데이터를 검색합니다.
-        FundingSummaryResponseDto cachedSummary = cacheService.getSummaryFromCache();
-        if (cachedSummary != null) {
-            return cachedSummary;
-        }
-
-        // 캐시에 데이터가 없는 경우, 데이터베이스에서 정보를 계산합니다.
-        FundingSummary fundingSummary = fundingSummaryRepository.findFirstByOrderByIdAsc().orElse(new FundingSummary());
-        long totalDonationsCount = fundingSummary.getTotalDonationsCount();
-        long successfulFundingsCount = fundingSummary.getSuccessfulFundingsCount();
-        long totalFundingAmount = fundingSummary.getTotalFundingAmount();
-
-        // 계산된 통계 정보를 캐시에 저장합니다.
-        FundingSummaryResponseDto summary = FundingSummaryResponseDto.builder()
-                .totalDonationsCount(totalDonationsCount)
-                .successfulFundingsCount(successfulFundingsCount)
-                .totalFundingAmount(totalFundingAmount)
-                .build();
-
-        cacheService.saveSummaryToCache(summary);
-        return summary;
+        // 캐시에서 통계 데이터를 검색하고, 없는 경우 데이터베이스에서 정보를 계산하여 캐시에 저장합니다.
+        return cacheService.getSummary(fundingSummaryService::getSummary);
     }
 
     // ---------------------------- OG 태그 메서드 ------------------------------------------
@@ -446,6 +485,7 @@ public class FundingService {
 
     /**
      * 아이템 링크를 입력하여 Jsoup을 이용해 og:image 태그의 이미지를 가져옵니다.
+     * 외부 사이트 요청은 크기가 제한된 상품 미리보기 스레드 풀에서 실행하며, 풀이 가득 차면 바로 거부합니다.
      *
      * @param itemLink 이미지를 가져올 사이트의 링크
      * @return 링크 입력을 통해 가져온 이미지와 링크로 FundingItem 객체 생성 및 반환
@@ -454,6 +494,34 @@ public class FundingService {
     public FundingItem previewItem(String itemLink) throws IOException {
         log.info("[previewItem] 상품 미리보기");
 
+        Future<FundingItem> future;
+        try {
+            future = linkPreviewTaskExecutor.submit(() -> fetchItem(itemLink));
+        } catch (TaskRejectedException e) {
+            throw new BaseException(BaseResponseStatus.LINK_PREVIEW_BUSY);
+        }
+        try {
+            return future.get(PREVIEW_WAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BaseException(BaseResponseStatus.FUNDING_ITEM_PREVIEW_FAILED);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new BaseException(BaseResponseStatus.FUNDING_ITEM_PREVIEW_FAILED);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.FUNDING_ITEM_PREVIEW_FAILED);
+        }
+    }
+
+    // 링크의 og:image 태그를 읽어 FundingItem 생성 (상품 미리보기 스레드 풀에서 실행)
+    private FundingItem fetchItem(String itemLink) throws IOException {
         Document document = Jsoup.connect(itemLink).timeout(TIMEOUT).get();
         String itemImage = getMetaTagContent(document, "og:image");
         if (itemImage == null) {
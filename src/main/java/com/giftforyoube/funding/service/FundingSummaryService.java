@@ -0,0 +1,135 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.funding.dto.FundingSummaryResponseDto;
+import com.giftforyoube.funding.entity.FundingSummary;
+import com.giftforyoube.funding.repository.FundingSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 전체 펀딩 통계(후원 수, 후원 금액, 성공한 펀딩 수)를 여러 샤드 행에 나누어 누적합니다.
+ * 후원마다 임의의 샤드 행 하나만 원자적으로 갱신하므로 단일 행에 대한 경합과 갱신 유실이 없고,
+ * 조회 시에는 모든 샤드를 합산합니다. (결과는 CacheService에서 짧게 캐시)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FundingSummaryService {
+
+    private final FundingSummaryRepository fundingSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${funding.summary.shards:16}")
+    private int shardCount;
+
+    /**
+     * 후원 발생 시 통계를 누적합니다.
+     *
+     * @param donationAmount 후원 금액
+     */
+    public void addDonation(int donationAmount) {
+        int shard = randomShard();
+        if (fundingSummaryRepository.addDonations(shard, 1, donationAmount) == 0) {
+            createShard(shard);
+            fundingSummaryRepository.addDonations(shard, 1, donationAmount);
+        }
+    }
+
+    /**
+     * 펀딩 성공 시 통계를 누적합니다.
+     */
+    public void addSuccessfulFunding() {
+        int shard = randomShard();
+        if (fundingSummaryRepository.addSuccessfulFundings(shard, 1) == 0) {
+            createShard(shard);
+            fundingSummaryRepository.addSuccessfulFundings(shard, 1);
+        }
+    }
+
+    /**
+     * 모든 샤드를 합산한 통계를 조회합니다.
+     *
+     * @return 합산된 펀딩 통계
+     */
+    public FundingSummaryResponseDto getSummary() {
+        long totalDonationsCount = 0;
+        long successfulFundingsCount = 0;
+        long totalFundingAmount = 0;
+        for (FundingSummary summary : fundingSummaryRepository.findAll()) {
+            totalDonationsCount += summary.getTotalDonationsCount();
+            successfulFundingsCount += summary.getSuccessfulFundingsCount();
+            totalFundingAmount += summary.getTotalFundingAmount();
+        }
+        return FundingSummaryResponseDto.builder()
+                .totalDonationsCount(totalDonationsCount)
+                .successfulFundingsCount(successfulFundingsCount)
+                .totalFundingAmount(totalFundingAmount)
+                .build();
+    }
+
+    /**
+     * 모든 통계 행을 0번 샤드에 합치고 나머지 샤드는 0으로 초기화합니다.
+     * 샤드 도입 전의 단일 통계 행이나 샤드 수를 줄여 더 이상 쓰이지 않는 샤드 행은 삭제합니다.
+     * 압축하는 동안 통계 행을 잠그므로, 그 사이의 누적은 압축이 끝난 뒤 반영됩니다.
+     * 0번 샤드가 없으면 누적 요청과 동시에 만들어도 충돌하지 않도록 트랜잭션 밖에서 먼저 만든 뒤(createShard), 잠금 조회로 다시 읽어 합칩니다.
+     */
+    public void compact() {
+        if (!fundingSummaryRepository.existsByShard(0)) {
+            createShard(0);
+        }
+        transactionTemplate.executeWithoutResult(status -> compactShards());
+    }
+
+    private void compactShards() {
+        List<FundingSummary> summaries = fundingSummaryRepository.findAllForUpdate();
+        FundingSummary target = summaries.stream()
+                .filter(summary -> Integer.valueOf(0).equals(summary.getShard()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("0번 통계 샤드가 없습니다."));
+
+        long totalDonationsCount = 0;
+        long successfulFundingsCount = 0;
+        long totalFundingAmount = 0;
+        int removedCount = 0;
+        for (FundingSummary summary : summaries) {
+            totalDonationsCount += summary.getTotalDonationsCount();
+            successfulFundingsCount += summary.getSuccessfulFundingsCount();
+            totalFundingAmount += summary.getTotalFundingAmount();
+            if (summary == target) {
+                continue;
+            }
+            if (summary.getShard() == null || summary.getShard() >= shardCount) {
+                fundingSummaryRepository.delete(summary);
+                removedCount++;
+            } else {
+                summary.setTotalDonationsCount(0);
+                summary.setSuccessfulFundingsCount(0);
+                summary.setTotalFundingAmount(0);
+            }
+        }
+        target.setTotalDonationsCount(totalDonationsCount);
+        target.setSuccessfulFundingsCount(successfulFundingsCount);
+        target.setTotalFundingAmount(totalFundingAmount);
+        log.info("[compact] 펀딩 통계 압축 완료: " + summaries.size() + "행, 삭제 " + removedCount + "행");
+    }
+
+    private int randomShard() {
+        return ThreadLocalRandom.current().nextInt(shardCount);
+    }
+
+    // 샤드 행이 없으면 생성 (다른 요청이 먼저 생성한 경우 무시)
+    private void createShard(int shard) {
+        try {
+            fundingSummaryRepository.saveAndFlush(new FundingSummary(shard));
+        } catch (DataIntegrityViolationException e) {
+            log.info("[createShard] 이미 생성된 통계 샤드: " + shard);
+        }
+    }
+}
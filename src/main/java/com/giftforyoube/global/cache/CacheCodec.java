@@ -0,0 +1,27 @@
+package com.giftforyoube.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * Redis에 저장하는 캐시 값의 직렬화 방식
+ * 설정(cache.codec)에 따라 JSON / Smile(바이너리 JSON) 중 하나를 사용합니다.
+ */
+public interface CacheCodec {
+
+    /**
+     * 캐시 값을 바이트 배열로 직렬화합니다.
+     *
+     * @param value 캐시 값
+     * @return 직렬화된 바이트 배열
+     */
+    byte[] encode(Object value);
+
+    /**
+     * 바이트 배열을 캐시 값으로 역직렬화합니다.
+     *
+     * @param bytes 직렬화된 바이트 배열
+     * @param type 역직렬화할 타입
+     * @return 캐시 값
+     */
+    <T> T decode(byte[] bytes, JavaType type);
+}
@@ -0,0 +1,75 @@
+package com.giftforyoube.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 직렬화 결과가 threshold 바이트 이상이면 Deflate로 압축합니다.
+ * 첫 바이트에 압축 여부를 기록하므로 압축 / 비압축 값이 섞여 있어도 읽을 수 있습니다.
+ * ex) [0][payload] : 비압축, [1][deflated payload] : 압축
+ */
+@RequiredArgsConstructor
+public class CompressingCacheCodec implements CacheCodec {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATE = 1;
+
+    private final CacheCodec delegate;
+    private final int threshold;
+
+    @Override
+    public byte[] encode(Object value) {
+        byte[] bytes = delegate.encode(value);
+        if (bytes.length < threshold) {
+            return withHeader(RAW, bytes);
+        }
+        return withHeader(DEFLATE, deflate(bytes));
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, JavaType type) {
+        if (bytes.length == 0) {
+            throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+        }
+        byte[] payload = Arrays.copyOfRange(bytes, 1, bytes.length);
+        return switch (bytes[0]) {
+            case RAW -> delegate.decode(payload, type);
+            case DEFLATE -> delegate.decode(inflate(payload), type);
+            default -> throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+        };
+    }
+
+    private byte[] withHeader(byte header, byte[] payload) {
+        byte[] bytes = new byte[payload.length + 1];
+        bytes[0] = header;
+        System.arraycopy(payload, 0, bytes, 1, payload.length);
+        return bytes;
+    }
+
+    private byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(bytes);
+        } catch (IOException e) {
+            throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] inflate(byte[] bytes) {
+        try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return inflater.readAllBytes();
+        } catch (IOException e) {
+            throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.giftforyoube.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+// ObjectMapper의 JsonFactory에 따라 JSON(텍스트) 또는 Smile(바이너리)로 직렬화
+@RequiredArgsConstructor
+public class JacksonCacheCodec implements CacheCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, JavaType type) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.giftforyoube.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업 실행 설정
+ * JDK 21에서 spring.threads.virtual.enabled=true 로 실행하면 Tomcat 요청 처리, @Async, @Scheduled 작업이 가상 스레드에서 실행됩니다.
+ * 다만 synchronized 구간 안에서 I/O를 하는 작업은 가상 스레드를 캐리어 스레드에 고정(pinning)시키므로
+ * 전용 플랫폼 스레드 풀에서 실행합니다. (고정 여부는 -Djdk.tracePinnedThreads=short 로 확인)
+ *
+ * 메일 / 인증 메일 / 알림 / SSE 전송 / 상품 링크 미리보기는 작업별로 크기가 제한된 스레드 풀을 사용하며, 풀마다 아래 지표를 기록합니다. (태그 executor)
+ * - async.executor.queued / async.executor.active : 대기열 길이, 실행 중인 작업 수
+ * - async.task.rejected : 풀과 대기열이 가득 차 거부된 작업 수
+ * - async.task.wait / async.task.execution : 대기열에서 기다린 시간, 실행 시간
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String MAIL_TASK_EXECUTOR = "mailTaskExecutor";
+    public static final String AUTH_MAIL_TASK_EXECUTOR = "authMailTaskExecutor";
+    public static final String NOTIFICATION_TASK_EXECUTOR = "notificationTaskExecutor";
+    public static final String LINK_PREVIEW_TASK_EXECUTOR = "linkPreviewTaskExecutor";
+    public static final String SSE_TASK_EXECUTOR = "sseTaskExecutor";
+
+    @Value("${async.mail.core-pool-size:2}")
+    private int mailCorePoolSize;
+    @Value("${async.mail.max-pool-size:4}")
+    private int mailMaxPoolSize;
+    @Value("${async.mail.queue-capacity:500}")
+    private int mailQueueCapacity;
+
+    @Value("${async.auth-mail.core-pool-size:2}")
+    private int authMailCorePoolSize;
+    @Value("${async.auth-mail.max-pool-size:4}")
+    private int authMailMaxPoolSize;
+    @Value("${async.auth-mail.queue-capacity:20}")
+    private int authMailQueueCapacity;
+
+    @Value("${async.notification.core-pool-size:4}")
+    private int notificationCorePoolSize;
+    @Value("${async.notification.max-pool-size:8}")
+    private int notificationMaxPoolSize;
+    @Value("${async.notification.queue-capacity:1000}")
+    private int notificationQueueCapacity;
+
+    @Value("${async.sse.core-pool-size:4}")
+    private int sseCorePoolSize;
+    @Value("${async.sse.max-pool-size:8}")
+    private int sseMaxPoolSize;
+    @Value("${async.sse.queue-capacity:2000}")
+    private int sseQueueCapacity;
+
+    @Value("${async.link-preview.core-pool-size:4}")
+    private int linkPreviewCorePoolSize;
+    @Value("${async.link-preview.max-pool-size:8}")
+    private int linkPreviewMaxPoolSize;
+    @Value("${async.link-preview.queue-capacity:50}")
+    private int linkPreviewQueueCapacity;
+
+    // 별도 Executor를 등록하면 Spring Boot 기본 @Async 실행기가 만들어지지 않으므로 기본 실행기를 직접 등록
+    // 가상 스레드 모드 : 작업마다 가상 스레드 생성
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 플랫폼 스레드 모드 : spring.task.execution.* 설정의 스레드 풀
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 알림 메일 SMTP 전송용 플랫폼 스레드 풀, 거부된 알림 메일은 MailingService가 재시도 큐에 저장
+    @Bean(name = MAIL_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor mailTaskExecutor(MeterRegistry meterRegistry) {
+        return boundedExecutor("mail", mailCorePoolSize, mailMaxPoolSize, mailQueueCapacity, false, meterRegistry);
+    }
+
+    // 회원가입 인증 메일 전용 플랫폼 스레드 풀, 알림 메일 묶음 전송 뒤에서 기다리지 않도록 분리
+    // 요청 스레드가 결과를 기다리므로 대기열은 짧게 두고, 가득 차면 거부하여 요청자에게 바로 실패 응답
+    @Bean(name = AUTH_MAIL_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor authMailTaskExecutor(MeterRegistry meterRegistry) {
+        return boundedExecutor("auth-mail", authMailCorePoolSize, authMailMaxPoolSize, authMailQueueCapacity, false, meterRegistry);
+    }
+
+    // 알림 저장 / SSE 전송용 스레드 풀, 가득 차면 호출한 스레드에서 실행하여 알림을 버리지 않고 호출 측 속도를 늦춤
+    @Bean(name = NOTIFICATION_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationTaskExecutor(MeterRegistry meterRegistry) {
+        return boundedExecutor("notification", notificationCorePoolSize, notificationMaxPoolSize, notificationQueueCapacity, true, meterRegistry);
+    }
+
+    // SSE 소켓 쓰기용 스레드 풀 (연결별 전송 대기열을 비우는 작업), 가득 차면 거부하여 알림을 만드는 스레드가 소켓 쓰기를 하지 않도록 함
+    // 거부된 연결의 이벤트는 대기열에 남아 다음 이벤트 / 하트비트 때 다시 전송
+    @Bean(name = SSE_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor sseTaskExecutor(MeterRegistry meterRegistry) {
+        return boundedExecutor("sse", sseCorePoolSize, sseMaxPoolSize, sseQueueCapacity, false, meterRegistry);
+    }
+
+    // 상품 링크 미리보기(Jsoup) 요청용 스레드 풀, 가득 차면 바로 거부하여 외부 사이트 지연이 요청 스레드를 모두 점유하지 않도록 함
+    @Bean(name = LINK_PREVIEW_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor linkPreviewTaskExecutor(MeterRegistry meterRegistry) {
+        return boundedExecutor("link-preview", linkPreviewCorePoolSize, linkPreviewMaxPoolSize, linkPreviewQueueCapacity, false, meterRegistry);
+    }
+
+    // 크기가 제한된 스레드 풀 생성 및 지표 등록
+    // callerRunsOnRejection 이 false 이면 거부 시 TaskRejectedException 발생
+    static ThreadPoolTaskExecutor boundedExecutor(String name, int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                  boolean callerRunsOnRejection, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Timer waitTimer = Timer.builder("async.task.wait")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Timer executionTimer = Timer.builder("async.task.execution")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Counter rejectedCounter = Counter.builder("async.task.rejected")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        executor.setTaskDecorator(task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+
+        RejectedExecutionHandler rejectionPolicy = callerRunsOnRejection
+                ? new ThreadPoolExecutor.CallerRunsPolicy()
+                : new ThreadPoolExecutor.AbortPolicy();
+        executor.setRejectedExecutionHandler((task, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            rejectionPolicy.rejectedExecution(task, threadPoolExecutor);
+        });
+        return executor;
+    }
+}
@@ -0,0 +1,32 @@
+package com.giftforyoube.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.giftforyoube.global.cache.CacheCodec;
+import com.giftforyoube.global.cache.CompressingCacheCodec;
+import com.giftforyoube.global.cache.JacksonCacheCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration
+public class CacheCodecConfig {
+
+    // smile(기본값) : 바이너리 JSON, 반복되는 필드명을 한 번만 기록하여 목록 캐시 크기가 작음 / json : 디버깅용
+    @Value("${cache.codec:smile}")
+    private String codec;
+
+    // 이 크기(byte) 이상인 캐시 값만 Deflate 압축 (작은 값은 압축 이득보다 CPU 비용이 큼)
+    @Value("${cache.compression.threshold:1024}")
+    private int compressionThreshold;
+
+    @Bean
+    public CacheCodec cacheCodec(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        // 스프링 ObjectMapper 설정(JavaTimeModule 등)을 그대로 사용하고 포맷만 Smile로 변경
+        ObjectMapper cacheObjectMapper = "json".equalsIgnoreCase(codec)
+                ? objectMapper
+                : objectMapperBuilder.factory(new SmileFactory()).build();
+        return new CompressingCacheCodec(new JacksonCacheCodec(cacheObjectMapper), compressionThreshold);
+    }
+}
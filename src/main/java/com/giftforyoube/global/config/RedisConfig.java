@@ -49,6 +49,16 @@ public class RedisConfig {
         return template;
     }
 
+    // CacheCodec으로 직렬화한 바이트 배열을 그대로 저장하는 템플릿 (펀딩 캐시 전용)
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
     // ObjectMapper의 setObjectMapper가 스프링부트 3.0 이상부터 deprecated되어
     // 날짜 정보를 직렬화,역직렬화 하기위해 커스텀한 serializer를 사용
     @Bean
@@ -89,12 +89,15 @@ public enum BaseResponseStatus {
     UNABLE_TO_GET_LINK_IMAGE(false, 4319, "링크 상품 이미지를 가져올 수 없습니다."),
     SERIALIZING_ERROR(false, 4320, "직열화하는 과정에서 오류가 발생했습니다."),
     DESERIALIZING_ERROR(false, 4321, "역직열화하는 과정에서 오류가 발생했습니다."),
+    INVALID_FUNDING_CURSOR(false, 4322, "잘못된 펀딩 목록 커서입니다."),
+    UNSUPPORTED_FUNDING_SORT(false, 4323, "지원하지 않는 펀딩 정렬 기준입니다."),
 
 
     // 2-4. 후원
     DONATION_RANKING_DELIVERY_FAILED(false, 4400, "후원 랭킹 전달에 실패했습니다."),
     DONATION_READY_FAILED(false, 4401, "후원 결제 준비 요청에 실패했습니다."),
     DONATION_APPROVE_FAILED(false, 4402, "후원 결제 승인 요청에 실패했습니다."),
+    INVALID_DONATION_CURSOR(false, 4403, "잘못된 후원 목록 커서입니다."),
 
     // 2-5. 알림
     NOTIFICATION_NOT_FOUND(false, 4500, "알림을 찾을 수 없습니다."),
@@ -118,7 +121,14 @@ public enum BaseResponseStatus {
 
     // 3-2. 알림
     NOTIFICATION_SEND_FAILED(false, 5200, "알림 전송에 실패했습니다."),
-    UNAUTHORIZED_GET_NOTIFICATION(false, 5201, "알림을 읽을 권한이 업습니다.");
+    UNAUTHORIZED_GET_NOTIFICATION(false, 5201, "알림을 읽을 권한이 업습니다."),
+
+    // 3-3. 결제
+    PAYMENT_CIRCUIT_OPEN(false, 5300, "결제 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    PAYMENT_BULKHEAD_FULL(false, 5301, "결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
+    // 3-4. 상품 링크 미리보기
+    LINK_PREVIEW_BUSY(false, 5400, "상품 미리보기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final boolean isSuccess;
     private final int code;
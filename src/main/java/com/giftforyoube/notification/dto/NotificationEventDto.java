@@ -0,0 +1,14 @@
+package com.giftforyoube.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 다른 서버로 전달되는 SSE 알림 이벤트 (이벤트 ID + 알림 내용)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEventDto {
+    private long eventId;
+    private MessageResponseDto message;
+}
@@ -0,0 +1,60 @@
+package com.giftforyoube.notification.entity;
+
+import com.giftforyoube.global.entity.Auditable;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 메일 전송 스레드 풀이 가득 차 거부되었거나 전송에 실패한 알림 메일을 DB에 보관하고, 스케줄러가 다시 전송
+// (회원가입 인증 메일은 인증 코드를 저장하지 않도록 보관하지 않음)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = {
+        // 재시도 대상 조회
+        @Index(name = "idx_pending_mail_next_attempt", columnList = "next_attempt_at, attempts")
+})
+public class PendingMail extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false)
+    private String templateName;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public PendingMail(String recipient, String subject, String templateName) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.templateName = templateName;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 재전송 선점(PendingMailRepository.claim)으로 DB에서 미룬 다음 시도 시각을 엔티티에도 반영
+    public void postpone(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 전송 실패 기록, 최대 시도 횟수에 도달하면 재시도 대상에서 제외됨
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -1,24 +1,35 @@
 package com.giftforyoube.notification.repository;
 
-import com.giftforyoube.notification.entity.Notification;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
 public interface EmitterRepository {
 
-    // emitter 저장
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    // emitter 저장, 회원별 최대 연결 수를 넘으면 가장 오래된 연결을 종료하고 삭제
+    SseEmitter save(String userId, String emitterId, SseEmitter sseEmitter);
 
-    void deleteAllEmitterStartWithId(String emitterId);
+    // 회원의 emitter 하나 삭제
+    void deleteById(String userId, String emitterId);
 
-    void deleteAllEventCacheStartWithId(String userId);
+    // 하트비트 전송에 실패한 (끊어진) emitter 삭제
+    void reap(String userId, String emitterId);
 
-    void deleteById(String emitterId);
+    // 회원의 모든 emitter 조회 (emitter ID -> emitter)
+    Map<String, SseEmitter> findAllEmitterByUserId(String userId);
 
-    Map<String, Object> findAllEventCacheStartWithByUserId(String userId);
+    // 이 서버에 연결된 모든 emitter 조회 (회원 ID -> (emitter ID -> emitter))
+    Map<String, Map<String, SseEmitter>> findAllEmitters();
 
-    Map<String, SseEmitter> findAllEmitterStartWithByUserId(String receiverId);
+    // 회원에게 보낸 이벤트 저장 (이벤트 ID 순서와 저장 순서는 다를 수 있음)
+    void saveEventCache(String userId, long eventId, Object event);
 
-    void saveEventCache(String emitterId, Object event);
+    // 회원에게 보낸 이벤트 중 ID가 lastEventId보다 큰 이벤트를 ID 순서대로 조회 (이벤트 ID -> 이벤트)
+    Map<Long, Object> findAllEventCacheAfter(String userId, long lastEventId);
+
+    // 회원에게 보낸 모든 이벤트 삭제
+    void deleteAllEventCacheByUserId(String userId);
+
+    // 보관 기간이 지난 이벤트 삭제, 삭제한 이벤트 수 반환
+    int evictExpiredEventCache();
 }
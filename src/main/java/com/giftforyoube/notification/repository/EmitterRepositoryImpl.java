@@ -1,17 +1,28 @@
 package com.giftforyoube.notification.repository;
 
-import com.giftforyoube.notification.entity.Notification;
-import com.giftforyoube.user.entity.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
-public class EmitterRepositoryImpl implements EmitterRepository{
+public class EmitterRepositoryImpl implements EmitterRepository, MeterBinder {
     // SseEmitter를 관리하는 스레드들이 콜백할때 스레드가 다를수 있기에 ThreadSafe한 구조인 ConcurrentHashMap을 사용
     // 동시성을 고려하여 ConcurrentHashMap 사용 -> 가능한 많은 클라이언트의 요청을 처리할 수 있도록 함
 
@@ -22,62 +33,223 @@ public class EmitterRepositoryImpl implements EmitterRepository{
     // -> 어플리케이션 재시작시 데이터가 손실되지않나? (서버 리부팅, 업데이트 배포 시에)
     // -> 데이터의 지속성에는 Redis가 concurrenthashmap보다 낫다.
     // 테스트단계에서는 괜찮지만 비용측면 고려하여 개발 후기단계에서 redis로 변경 고려
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
 
+    // 회원 ID로 바로 찾을 수 있도록 회원별로 나누어 저장
+    // 전체 emitter를 startsWith로 훑지 않으므로 조회 / 삭제 비용은 해당 회원의 연결 수에만 비례하고,
+    // a@x.com 과 a@x.com.kr 처럼 앞부분이 같은 회원의 이벤트가 섞이지 않음
+    // 재전송용 이벤트는 회원별로 최근 이벤트 수와 보관 기간을 제한하여 오래 실행되는 서버에서도 계속 쌓이지 않도록 함
+    // 새로고침 / 탭을 여러 개 여는 경우 연결이 계속 쌓이지 않도록 회원별 연결 수를 제한하고, 넘치면 가장 오래된 연결부터 종료
+    private static final int MAX_EMITTERS_PER_USER = 5; // 회원별 최대 SSE 연결 수
+    private static final int MAX_EVENT_CACHE_SIZE = 100; // 회원별로 보관하는 최근 이벤트 수
+    private static final long EVENT_CACHE_TTL_MILLIS = 10L * 60 * 1000; // 이벤트 보관 기간 (10분)
 
+    private final Map<String, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>(); // 회원 ID -> (emitter ID -> emitter, 연결 순서)
+    private final AtomicInteger emitterCount = new AtomicInteger(); // 전체 연결 수
+    private final AtomicLong evictedEmitterCount = new AtomicLong(); // 최대 연결 수를 넘어 종료된 연결 수
+    private final AtomicLong reapedEmitterCount = new AtomicLong(); // 하트비트 실패로 정리된 연결 수
+    private final Map<String, EventBuffer> eventCache = new ConcurrentHashMap<>(); // 회원 ID -> 최근 이벤트
+    private final AtomicInteger eventCount = new AtomicInteger(); // 전체 보관 중인 이벤트 수
+    private final AtomicLong evictedEventCount = new AtomicLong(); // 보관 기간 / 개수 제한으로 삭제된 이벤트 수
+    private final Clock clock;
+
+    public EmitterRepositoryImpl() {
+        this(Clock.systemUTC());
+    }
+
+    EmitterRepositoryImpl(Clock clock) {
+        this.clock = clock;
+    }
+
+    // 연결 수 / 재전송 버퍼 사용량 지표
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.emitters.active", emitterCount, AtomicInteger::get)
+                .description("이 서버에 연결된 SSE 연결 수")
+                .register(registry);
+        Gauge.builder("sse.emitters.users", emitters, Map::size)
+                .description("이 서버에 SSE로 연결된 회원 수")
+                .register(registry);
+        FunctionCounter.builder("sse.emitters.evicted", evictedEmitterCount, AtomicLong::get)
+                .description("회원별 최대 연결 수를 넘어 종료된 연결 수")
+                .register(registry);
+        FunctionCounter.builder("sse.emitters.reaped", reapedEmitterCount, AtomicLong::get)
+                .description("하트비트 전송 실패로 정리된 연결 수")
+                .register(registry);
+        Gauge.builder("sse.replay.users", eventCache, Map::size)
+                .description("재전송용 이벤트를 보관 중인 회원 수")
+                .register(registry);
+        Gauge.builder("sse.replay.events", eventCount, AtomicInteger::get)
+                .description("재전송용으로 보관 중인 전체 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("sse.replay.evicted", evictedEventCount, AtomicLong::get)
+                .description("보관 기간 / 개수 제한으로 삭제된 이벤트 수")
+                .register(registry);
+    }
+
+    // 같은 회원의 emitter 삭제와 겹쳐도 유실되지 않도록 회원 항목 단위로 원자적으로 저장
+    // 최대 연결 수를 넘으면 가장 오래된 연결부터 목록에서 빼고, 잠금 밖에서 연결 종료
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(String userId, String emitterId, SseEmitter sseEmitter) {
+        List<SseEmitter> evicted = new ArrayList<>();
+        emitters.compute(userId, (key, userEmitters) -> {
+            Map<String, SseEmitter> saved = userEmitters == null ? Collections.synchronizedMap(new LinkedHashMap<>()) : userEmitters;
+            synchronized (saved) {
+                if (saved.put(emitterId, sseEmitter) == null) {
+                    emitterCount.incrementAndGet();
+                }
+                Iterator<SseEmitter> oldest = saved.values().iterator();
+                while (saved.size() > MAX_EMITTERS_PER_USER) {
+                    evicted.add(oldest.next());
+                    oldest.remove();
+                    emitterCount.decrementAndGet();
+                }
+            }
+            return saved;
+        });
+        evictedEmitterCount.addAndGet(evicted.size());
+        evicted.forEach(SseEmitter::complete);
         return sseEmitter;
     }
 
-    @Override   // event 저장
-    public void saveEventCache(String eventCacheId, Object event) {
+    @Override
+    public void deleteById(String userId, String emitterId) {
+        remove(userId, emitterId);
+    }
 
-        eventCache.put(eventCacheId, event);
+    @Override
+    public void reap(String userId, String emitterId) {
+        if (remove(userId, emitterId)) {
+            reapedEmitterCount.incrementAndGet();
+        }
     }
 
-    @Override   // 구분자로 회원 ID를 사용하기에 StartWith를 사용 - 회원과 관련된 모든 emitter를 찾는다.
-    public Map<String, SseEmitter> findAllEmitterStartWithByUserId(String UserId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(UserId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    @Override
+    public Map<String, SseEmitter> findAllEmitterByUserId(String userId) {
+        Map<String, SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return Collections.emptyMap();
+        }
+        synchronized (userEmitters) {
+            return new LinkedHashMap<>(userEmitters);
+        }
     }
 
-    // 회원에게 수신된 모든 이벤트를 찾는다.
     @Override
-    public Map<String, Object> findAllEventCacheStartWithByUserId(String UserId) {
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(UserId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Map<String, Map<String, SseEmitter>> findAllEmitters() {
+        Map<String, Map<String, SseEmitter>> allEmitters = new HashMap<>();
+        for (String userId : emitters.keySet()) {
+            Map<String, SseEmitter> userEmitters = findAllEmitterByUserId(userId);
+            if (!userEmitters.isEmpty()) {
+                allEmitters.put(userId, userEmitters);
+            }
+        }
+        return allEmitters;
     }
 
+    // 보관 기간이 지난 버퍼 정리와 겹쳐도 유실되지 않도록 회원 항목 단위로 원자적으로 저장
     @Override
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public void saveEventCache(String userId, long eventId, Object event) {
+        long now = clock.millis();
+        eventCache.compute(userId, (key, buffer) -> {
+            EventBuffer saved = buffer == null ? new EventBuffer() : buffer;
+            int evictedCount = saved.add(eventId, event, now);
+            eventCount.addAndGet(1 - evictedCount);
+            evictedEventCount.addAndGet(evictedCount);
+            return saved;
+        });
     }
 
-    // 해당 회원과 관련된 모든 emitter를 지움
     @Override
-    public void deleteAllEmitterStartWithId(String userId) {
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(userId)) {
-                        emitters.remove(key);
-                        deleteAllEventCacheStartWithId(userId);
-                    }
-                }
-        );
+    public Map<Long, Object> findAllEventCacheAfter(String userId, long lastEventId) {
+        EventBuffer buffer = eventCache.get(userId);
+        if (buffer == null) {
+            return Collections.emptyMap();
+        }
+        return buffer.findAfter(lastEventId, clock.millis() - EVENT_CACHE_TTL_MILLIS);
     }
 
-    // 해당 회원과 관련된 모든 이벤트를 지움
     @Override
-    public void deleteAllEventCacheStartWithId(String userID) {
-        eventCache.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(userID)) { eventCache.remove(key); }
+    public void deleteAllEventCacheByUserId(String userId) {
+        EventBuffer buffer = eventCache.remove(userId);
+        if (buffer != null) {
+            eventCount.addAndGet(-buffer.size());
+        }
+    }
+
+    // 모든 회원의 버퍼에서 보관 기간이 지난 이벤트를 삭제하고, 비어있는 버퍼는 회원 항목째로 삭제
+    @Override
+    public int evictExpiredEventCache() {
+        long expireBefore = clock.millis() - EVENT_CACHE_TTL_MILLIS;
+        int totalEvictedCount = 0;
+        for (String userId : eventCache.keySet()) {
+            int[] evictedCount = new int[1];
+            eventCache.computeIfPresent(userId, (key, buffer) -> {
+                evictedCount[0] = buffer.evictExpired(expireBefore);
+                return buffer.size() == 0 ? null : buffer;
+            });
+            totalEvictedCount += evictedCount[0];
+        }
+        eventCount.addAndGet(-totalEvictedCount);
+        evictedEventCount.addAndGet(totalEvictedCount);
+        return totalEvictedCount;
+    }
+
+    // emitter 하나를 삭제하고 삭제 여부 반환, 마지막 emitter가 삭제되면 회원 항목도 삭제
+    private boolean remove(String userId, String emitterId) {
+        boolean[] removed = new boolean[1];
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            synchronized (userEmitters) {
+                removed[0] = userEmitters.remove(emitterId) != null;
+                return userEmitters.isEmpty() ? null : userEmitters;
+            }
+        });
+        if (removed[0]) {
+            emitterCount.decrementAndGet();
+        }
+        return removed[0];
+    }
+
+    private record CachedEvent(long id, long savedAt, Object data) {
+    }
+
+    // 회원 한 명의 최근 이벤트를 저장한 순서대로 보관하는 링 버퍼
+    private static class EventBuffer {
+
+        private final ArrayDeque<CachedEvent> events = new ArrayDeque<>();
+
+        // 이벤트 저장 후 보관 기간 / 개수 제한으로 삭제한 이벤트 수 반환
+        synchronized int add(long eventId, Object event, long now) {
+            int evictedCount = evictExpired(now - EVENT_CACHE_TTL_MILLIS);
+            events.addLast(new CachedEvent(eventId, now, event));
+            if (events.size() > MAX_EVENT_CACHE_SIZE) {
+                events.removeFirst();
+                evictedCount++;
+            }
+            return evictedCount;
+        }
+
+        synchronized int evictExpired(long expireBefore) {
+            int evictedCount = 0;
+            while (!events.isEmpty() && events.peekFirst().savedAt() < expireBefore) {
+                events.removeFirst();
+                evictedCount++;
+            }
+            return evictedCount;
+        }
+
+        // 이벤트 ID는 저장 순서와 다를 수 있으므로(발급 후 저장 전 경합, 서버마다 다른 시계) 버퍼 전체(최대 MAX_EVENT_CACHE_SIZE 개)를 확인하고 ID 순으로 반환
+        synchronized Map<Long, Object> findAfter(long lastEventId, long expireBefore) {
+            Map<Long, Object> result = new TreeMap<>();
+            for (CachedEvent event : events) {
+                if (event.id() > lastEventId && event.savedAt() >= expireBefore) {
+                    result.put(event.id(), event.data());
                 }
-        );
+            }
+            return result;
+        }
+
+        synchronized int size() {
+            return events.size();
+        }
     }
 }
@@ -0,0 +1,27 @@
+package com.giftforyoube.notification.repository;
+
+import com.giftforyoube.notification.entity.PendingMail;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PendingMailRepository extends JpaRepository<PendingMail, Long> {
+
+    // 재시도 대상 : 다시 시도할 시각이 지났고 최대 시도 횟수에 도달하지 않은 메일
+    @Query("SELECT m FROM PendingMail m WHERE m.nextAttemptAt <= :now AND m.attempts < :maxAttempts ORDER BY m.id ASC")
+    List<PendingMail> findRetryable(@Param("now") LocalDateTime now,
+                                    @Param("maxAttempts") int maxAttempts,
+                                    Pageable pageable);
+
+    // 재전송 선점 : 다음 시도 시각이 아직 지나 있는 경우에만 미루므로, 여러 서버가 같은 메일을 조회해도 한 서버만 1을 반환
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE PendingMail m SET m.nextAttemptAt = :claimedUntil WHERE m.id = :id AND m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("claimedUntil") LocalDateTime claimedUntil);
+}
@@ -1,121 +1,347 @@
 package com.giftforyoube.notification.service;
 
+import com.giftforyoube.global.config.AsyncConfig;
 import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.notification.entity.Notification;
+import com.giftforyoube.notification.entity.PendingMail;
+import com.giftforyoube.notification.repository.PendingMailRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 메일 전송은 요청 스레드가 아닌 메일 전송 스레드 풀(AsyncConfig.MAIL_TASK_EXECUTOR)에서 실행합니다.
+ * 전송할 메일은 메모리 대기열에 쌓고, 전송 작업이 대기열을 묶음 단위로 꺼내 SMTP 연결 하나로 한 번에 전송합니다.
+ * (JavaMailSender.send(MimeMessage...)는 묶음 전체를 같은 Transport 연결로 전송)
+ * 대기열이나 스레드 풀이 가득 차 거부되거나 SMTP 전송이 실패한 알림 메일은 버리지 않고 재시도 큐(PendingMail)에 저장하며,
+ * 스케줄러가 주기적으로 다시 전송합니다.
+ * 회원가입 인증 메일은 인증 코드를 DB에 남기지 않고, 늦게 도착한 코드는 쓸모가 없으므로 재시도 큐를 거치지 않고
+ * 인증 메일 전용 스레드 풀(AsyncConfig.AUTH_MAIL_TASK_EXECUTOR)에서 바로 전송하여 실패하면 요청자에게 알립니다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MailingService {
 
     private final JavaMailSender javaMailSender;
     private final SpringTemplateEngine templateEngine;
+    private final PendingMailRepository pendingMailRepository;
+    // SMTP 전송(Transport.sendMessage)은 synchronized 구간에서 I/O를 하므로 가상 스레드 대신 전용 플랫폼 스레드에서 실행
+    @Qualifier(AsyncConfig.MAIL_TASK_EXECUTOR)
+    private final TaskExecutor mailTaskExecutor;
+    // 인증 메일이 알림 메일 묶음 전송 뒤에서 기다리지 않도록 별도 스레드 풀 사용
+    @Qualifier(AsyncConfig.AUTH_MAIL_TASK_EXECUTOR)
+    private final TaskExecutor authMailTaskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 전송 대기 중인 메일, 동시에 실행 중인 전송 작업 수
+    private final BlockingQueue<PendingMail> mailQueue = new LinkedBlockingQueue<>(MAIL_QUEUE_CAPACITY);
+    private final AtomicInteger activeSenders = new AtomicInteger();
+    // 변수가 없는 알림 메일 템플릿은 한 번만 렌더링하여 재사용 (템플릿 이름 -> HTML)
+    private final Map<String, String> renderedTemplates = new ConcurrentHashMap<>();
+
     private static final String EMAIL_TITLE_PREFIX = "[Giftipie] ";
+    private static final String SIGNUP_TEMPLATE = "EmailTemplateSignup";
+    private static final int MAX_MAIL_ATTEMPTS = 5;
+    // 실패한 메일을 다시 전송하기까지의 대기 시간, 전송 중인 메일이 다시 꺼내지지 않도록 미루는 시간
+    private static final long RETRY_DELAY_SECONDS = 300;
+    private static final int RETRY_BATCH_SIZE = 100;
+    private static final int MAIL_QUEUE_CAPACITY = 1000;
+    // 한 번의 SMTP 연결로 전송할 메일 수, 동시에 여는 SMTP 연결 수
+    private static final int MAIL_BATCH_SIZE = 50;
+    private static final int MAX_ACTIVE_SENDERS = 2;
 
     @Value("${spring.mail.username}")
     private String senderEmail;
 
-    @Async
-    public void sendNotificationEmail(Notification notification) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
+    // 회원가입 인증 메일 전송이 시작되기를 기다리는 최대 시간 (시작된 전송은 SMTP 시간 제한까지 결과를 기다림)
+    @Value("${mail.auth-timeout-millis:10000}")
+    private long authMailTimeoutMillis;
 
-        // 메일 제목
-        messageHelper.setSubject(EMAIL_TITLE_PREFIX + notification.getContent());
+    @PostConstruct
+    public void init() {
+        meterRegistry.gauge("mail.queue.size", mailQueue, BlockingQueue::size);
+    }
 
-        // 메일 받는 사람 설정
-        messageHelper.setTo(notification.getReceiver().getEmail());
+    // 종료 시 아직 전송하지 못한 메일은 재시도 큐에 저장
+    @PreDestroy
+    public void destroy() {
+        int savedCount = saveQueuedMails();
+        if (savedCount > 0) {
+            log.info("[destroy] 전송 대기 메일 재시도 큐에 저장: " + savedCount + "건");
+        }
+    }
 
-        // 템플릿에 전달할 데이터 설정
-        Context context = new Context();
+    // 알림 메일 전송
+    public void sendNotificationEmail(Notification notification) {
+        String templateName = switch (notification.getNotificationType()) {
+            case DONATION -> "EmailTemplateDonation";
+            case FUNDING_SUCCESS -> "EmailTemplateFundingSuccess";
+            case FUNDING_TIME_OUT -> "EmailTemplateTimeOut";
+        };
+        dispatch(new PendingMail(notification.getReceiver().getEmail(),
+                EMAIL_TITLE_PREFIX + notification.getContent(), templateName));
+    }
 
-        String html = "";
-        // 메일 내용
-        switch (notification.getNotificationType()) {
-            case DONATION :
-                html = templateEngine.process("EmailTemplateDonation", context);
-                break;
-            case FUNDING_SUCCESS :
-                html = templateEngine.process("EmailTemplateFundingSuccess", context);
-                break;
-            case FUNDING_TIME_OUT :
-                html = templateEngine.process("EmailTemplateTimeOut", context);
-                break;
+    // 회원가입 이메일 검증 메일을 인증 메일 전용 스레드 풀에서 전송한 후, 인증코드 반환
+    // 스레드 풀이 거부하거나 전송에 실패하거나 제한 시간 안에 전송을 시작하지 못하면 EMAIL_SEND_FAILED
+    // 제한 시간이 지났을 때 아직 시작 전이면 취소하여 보내지 않고, 이미 전송 중이면 결과를 기다려 실제 결과로 응답
+    // (실패로 응답한 뒤에 인증 코드가 도착하지 않도록)
+    public int sendMail(String mail) {
+        Random random = new Random();
+        int authenticationCode = random.nextInt(9000) + 1000; // 1000에서 9999 사이 랜덤 숫자 생성
+
+        // 이메일 주소 형식 검증은 요청 스레드에서 바로 처리
+        try {
+            new InternetAddress(mail).validate();
+        } catch (AddressException e) {
+            throw new BaseException(BaseResponseStatus.EMAIL_SEND_FAILED);
         }
 
-        messageHelper.setText(html, true);
+        // 전송 시작과 취소 중 먼저 도착한 쪽만 성공
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<Void> sendTask = new FutureTask<>(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                sendAuthenticationMail(mail, authenticationCode);
+            }
+            return null;
+        });
+        try {
+            authMailTaskExecutor.execute(sendTask);
+            try {
+                sendTask.get(authMailTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    sendTask.cancel(false);
+                    log.warn("[sendMail] 인증 메일 전송 대기 시간 초과, 전송 취소: " + mail);
+                    throw new BaseException(BaseResponseStatus.EMAIL_SEND_FAILED);
+                }
+                log.warn("[sendMail] 인증 메일 전송이 제한 시간을 넘김, 결과 대기: " + mail);
+                sendTask.get();
+            }
+        } catch (TaskRejectedException e) {
+            log.warn("[sendMail] 메일 전송 작업 거부: " + mail);
+            throw new BaseException(BaseResponseStatus.EMAIL_SEND_FAILED);
+        } catch (ExecutionException e) {
+            log.error("[sendMail] 인증 메일 전송 실패: " + mail, e.getCause());
+            meterRegistry.counter("mail.failed").increment();
+            throw new BaseException(BaseResponseStatus.EMAIL_SEND_FAILED);
+        } catch (InterruptedException e) {
+            // 아직 시작 전인 전송은 보내지 않도록 선점
+            claimed.compareAndSet(false, true);
+            sendTask.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.EMAIL_SEND_FAILED);
+        }
+        return authenticationCode;
+    }
 
-        // 이메일에 포함된 이미지 설정
-//        messageHelper.addInline("logo", new ClassPathResource("templates/images/image-2.png"));
-//        messageHelper.addInline("notice-icon", new ClassPathResource("templates/images/image-1.png"));
+    /**
+     * 재시도 큐에 쌓인 메일을 전송 대기열에 다시 넣습니다.
+     * 여러 서버가 같은 메일을 조회할 수 있으므로, 조건부 UPDATE로 다음 시도 시각을 미루는 데 성공한(선점한) 메일만 전송합니다.
+     * 대기열이 다시 가득 차면 남은 메일은 다음 재시도로 미룹니다.
+     *
+     * @return 전송을 다시 요청한 메일 수
+     */
+    public int retryPendingMails() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimedUntil = now.plusSeconds(RETRY_DELAY_SECONDS);
+        List<PendingMail> mails = pendingMailRepository.findRetryable(
+                now, MAX_MAIL_ATTEMPTS, PageRequest.of(0, RETRY_BATCH_SIZE));
+        int submittedCount = 0;
+        for (PendingMail mail : mails) {
+            // 다른 서버가 먼저 선점한 메일은 건너뜀, 선점한 메일은 전송 중에 다음 재시도에서 다시 꺼내지지 않음
+            if (pendingMailRepository.claim(mail.getId(), now, claimedUntil) == 0) {
+                continue;
+            }
+            mail.postpone(claimedUntil);
+            if (!mailQueue.offer(mail)) {
+                log.warn("[retryPendingMails] 메일 전송 대기열이 가득 참, 다음 재시도로 미룸: 남은 메일 " + (mails.size() - submittedCount) + "건");
+                break;
+            }
+            submittedCount++;
+        }
+        if (submittedCount > 0) {
+            requestSend();
+        }
+        return submittedCount;
+    }
 
-        // 메일 전송
-        javaMailSender.send(message);
+    // 메일을 전송 대기열에 넣고 전송 작업 요청, 대기열이 가득 차면 재시도 큐에 저장
+    private void dispatch(PendingMail mail) {
+        if (!mailQueue.offer(mail)) {
+            log.warn("[dispatch] 메일 전송 대기열이 가득 참, 재시도 큐에 저장: " + mail.getRecipient());
+            pendingMailRepository.save(mail);
+            return;
+        }
+        requestSend();
     }
 
-    ////////////////////////////////////////////////////////////////
+    // 실행 중인 전송 작업이 최대 개수보다 적으면 전송 작업을 추가로 실행
+    // 메일 전송 스레드 풀이 작업을 거부하면 대기열의 메일을 재시도 큐에 저장
+    private void requestSend() {
+        if (activeSenders.incrementAndGet() > MAX_ACTIVE_SENDERS) {
+            activeSenders.decrementAndGet();
+            return;
+        }
+        try {
+            mailTaskExecutor.execute(this::sendQueuedMails);
+        } catch (TaskRejectedException e) {
+            activeSenders.decrementAndGet();
+            log.warn("[requestSend] 메일 전송 작업 거부, 대기열의 메일을 재시도 큐에 저장: " + saveQueuedMails() + "건");
+        }
+    }
 
-    // 회원가입 검증 이메일 생성
-    public MimeMessage createSignupMail(String mail, int authenticationCode) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    // 대기열이 빌 때까지 묶음 단위로 꺼내 전송
+    private void sendQueuedMails() {
+        try {
+            List<PendingMail> batch = new ArrayList<>(MAIL_BATCH_SIZE);
+            while (mailQueue.drainTo(batch, MAIL_BATCH_SIZE) > 0) {
+                sendBatch(batch);
+                batch.clear();
+            }
+        } finally {
+            activeSenders.decrementAndGet();
+            // 대기열을 비운 직후 들어온 메일이 남아있지 않도록 다시 확인
+            if (!mailQueue.isEmpty()) {
+                requestSend();
+            }
+        }
+    }
+
+    /**
+     * 메일 묶음을 SMTP 연결 하나로 전송합니다.
+     * 전송된 메일은 재시도 큐에서 삭제하고, 실패한 메일은 실패를 기록하여 재시도 큐에 저장합니다.
+     *
+     * @param batch 전송할 메일 묶음
+     */
+    private void sendBatch(List<PendingMail> batch) {
+        List<PendingMail> mails = new ArrayList<>(batch.size());
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (PendingMail mail : batch) {
+            try {
+                messages.add(createMessage(mail));
+                mails.add(mail);
+            } catch (MessagingException e) {
+                recordFailure(mail, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
 
-        // 이메일 주소 형식 검증
-        InternetAddress emailAddress = new InternetAddress(mail);
-        emailAddress.validate();
+        Map<Object, Exception> failedMessages = Map.of();
+        MailException batchException = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            javaMailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            batchException = e;
+        } catch (MailException e) {
+            batchException = e;
+        }
+        sample.stop(meterRegistry.timer("mail.batch.send"));
+        meterRegistry.summary("mail.batch.size").record(messages.size());
 
-        // 메일 세팅
-        // 이메일 제목
-        helper.setSubject(EMAIL_TITLE_PREFIX + "이메일 인증 코드입니다.");
+        int sentCount = 0;
+        for (int i = 0; i < mails.size(); i++) {
+            PendingMail mail = mails.get(i);
+            // 메일별 실패 정보가 없는 예외(인증 실패 등)는 묶음 전체 실패로 처리
+            Exception failure = failedMessages.isEmpty() ? batchException : failedMessages.get(messages.get(i));
+            if (failure != null) {
+                recordFailure(mail, failure);
+            } else {
+                sentCount++;
+                if (mail.getId() != null) {
+                    pendingMailRepository.deleteById(mail.getId());
+                }
+            }
+        }
+        meterRegistry.counter("mail.sent").increment(sentCount);
+    }
 
-        // 이메일 보내는 사람
-        helper.setFrom(senderEmail);
+    // 전송 실패 기록 후 재시도 큐에 저장
+    private void recordFailure(PendingMail mail, Exception e) {
+        log.error("[recordFailure] 메일 전송 실패: " + mail.getRecipient(), e);
+        meterRegistry.counter("mail.failed").increment();
+        mail.recordFailure(e.getMessage(), LocalDateTime.now().plusSeconds(RETRY_DELAY_SECONDS));
+        pendingMailRepository.save(mail);
+    }
 
-        // 이메일 받는 사람
-        helper.setTo(mail);
+    // 전송 대기열의 메일을 모두 꺼내 재시도 큐에 저장하고, 저장한 메일 수 반환
+    private int saveQueuedMails() {
+        List<PendingMail> mails = new ArrayList<>();
+        mailQueue.drainTo(mails);
+        for (PendingMail mail : mails) {
+            pendingMailRepository.save(mail);
+        }
+        return mails.size();
+    }
 
+    // 회원가입 인증 메일 전송 (인증 메일 전용 스레드 풀에서 실행)
+    private void sendAuthenticationMail(String recipient, int authenticationCode) throws MessagingException {
         // 템플릿에 전달할 데이터
         Context context = new Context();
-        context.setVariable("authenticationCode", authenticationCode); // 추가된부분
-
-//        String body = "";
-//        body += "<h3>" + "안녕하세요. 기프티파이입니다." + "</h3>";
-//        body += "<h3>" + "요청하신 인증 번호 입니다." + "</h3>";
-//        body += "<h1>" + authenticationCode + "</h1>";
-//        body += "<h3>" + "감사합니다!" + "</h3>";
-        String htmlContent = templateEngine.process("EmailTemplateSignup", context);
-
-        helper.setText(htmlContent, true);
+        context.setVariable("authenticationCode", authenticationCode);
+        String html = templateEngine.process(SIGNUP_TEMPLATE, context);
+        javaMailSender.send(createMessage(recipient, EMAIL_TITLE_PREFIX + "이메일 인증 코드입니다.", html));
+        meterRegistry.counter("mail.sent").increment();
+    }
 
-        return message;
+    // 알림 메일 생성, 변수가 없는 알림 메일 템플릿은 렌더링 결과를 캐시하여 재사용
+    private MimeMessage createMessage(PendingMail mail) throws MessagingException {
+        String html = renderedTemplates.computeIfAbsent(mail.getTemplateName(),
+                templateName -> templateEngine.process(templateName, new Context()));
+        return createMessage(mail.getRecipient(), mail.getSubject(), html);
     }
 
-    // 회원가입 이메일 검증 메일 전송한 후, 인증코드 반환
-    public int sendMail(String mail) {
-        Random random = new Random();
-        int authenticationCode = random.nextInt(9000) + 1000; // 1000에서 9999 사이 랜덤 숫자 생성
+    // 메일 제목, 받는 사람, 본문으로 이메일 생성
+    private MimeMessage createMessage(String recipient, String subject, String html) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
-        try {
-            // 메일 생성 및 전송
-            MimeMessage message = createSignupMail(mail, authenticationCode);
-            javaMailSender.send(message);
-        } catch (MessagingException e) {
-            throw new BaseException(BaseResponseStatus.EMAIL_SEND_FAILED);
-        }
+        helper.setSubject(subject);
+        helper.setFrom(senderEmail);
+        helper.setTo(recipient);
 
-        return authenticationCode;
+        helper.setText(html, true);
+
+        return message;
     }
 }
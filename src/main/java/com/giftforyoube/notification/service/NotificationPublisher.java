@@ -0,0 +1,145 @@
+package com.giftforyoube.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftforyoube.notification.dto.MessageResponseDto;
+import com.giftforyoube.notification.dto.NotificationEventDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * SSE 알림을 Redis 채널로 발행하여 모든 서버에 전달합니다.
+ * 로드밸런서 뒤에서는 알림을 만든 서버와 사용자가 SSE로 연결된 서버가 다를 수 있으므로,
+ * 각 서버는 채널을 구독하여 받은 알림을 자기 서버에 연결된 emitter에만 전송합니다.
+ * 짧은 시간 동안 쌓인 알림은 사용자별로 묶어 한 번에 발행합니다. (발행 실패 시 현재 서버에만 전달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPublisher {
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    private static final String NOTIFICATION_CHANNEL = "sseNotification";
+    private static final long FLUSH_INTERVAL_MILLIS = 50; // 알림을 모아 발행하는 주기
+    private static final int MAX_BATCH_SIZE = 100; // 이 개수만큼 쌓이면 주기를 기다리지 않고 바로 발행
+    private static final TypeReference<Map<String, List<NotificationEventDto>>> BATCH_TYPE = new TypeReference<>() {
+    };
+
+    // 발행 대기 중인 알림 (사용자 ID -> 이벤트 목록), 대기 중인 알림 수
+    private final Object lock = new Object();
+    private Map<String, List<NotificationEventDto>> pending = new LinkedHashMap<>();
+    private int pendingCount;
+
+    private final List<Consumer<Map<String, List<NotificationEventDto>>>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void init() {
+        subscribe();
+        flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // 다른 서버(자기 자신 포함)에서 발행한 알림 구독
+    void subscribe() {
+        notificationTopic().addListener(String.class, (channel, message) -> receive(message));
+    }
+
+    // 종료 전 남은 알림 발행
+    @PreDestroy
+    public void destroy() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    /**
+     * 모든 서버에서 받은 알림을 처리할 리스너를 등록합니다.
+     *
+     * @param listener 사용자 ID별 알림 이벤트 목록을 받아 처리하는 리스너
+     */
+    public void addListener(Consumer<Map<String, List<NotificationEventDto>>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 알림을 발행 대기열에 넣습니다. 같은 사용자의 알림은 하나의 목록으로 묶어 발행합니다.
+     *
+     * @param userId 알림을 받을 사용자의 ID
+     * @param eventId 알림 이벤트의 ID
+     * @param message 알림 내용
+     */
+    public void publish(String userId, long eventId, MessageResponseDto message) {
+        boolean full;
+        synchronized (lock) {
+            pending.computeIfAbsent(userId, key -> new ArrayList<>()).add(new NotificationEventDto(eventId, message));
+            full = ++pendingCount >= MAX_BATCH_SIZE;
+        }
+        if (full) {
+            flush();
+        }
+    }
+
+    // 쌓인 알림을 한 번에 발행
+    void flush() {
+        Map<String, List<NotificationEventDto>> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            pendingCount = 0;
+        }
+        try {
+            notificationTopic().publish(objectMapper.writeValueAsString(batch));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("[flush] 알림 발행 실패, 현재 서버에만 전달: " + batch.size() + "명", e);
+            deliver(batch);
+        }
+    }
+
+    // 발행된 알림을 받아 등록된 리스너에 전달
+    private void receive(String message) {
+        try {
+            deliver(objectMapper.readValue(message, BATCH_TYPE));
+        } catch (JsonProcessingException e) {
+            log.error("[receive] 알림 메시지 변환 실패", e);
+        }
+    }
+
+    private void deliver(Map<String, List<NotificationEventDto>> batch) {
+        for (Consumer<Map<String, List<NotificationEventDto>>> listener : listeners) {
+            try {
+                listener.accept(batch);
+            } catch (RuntimeException e) {
+                log.error("[deliver] 알림 전달 실패", e);
+            }
+        }
+    }
+
+    private RTopic notificationTopic() {
+        return redissonClient.getTopic(NOTIFICATION_CHANNEL, StringCodec.INSTANCE);
+    }
+}
@@ -1,8 +1,10 @@
 package com.giftforyoube.notification.service;
 
+import com.giftforyoube.global.config.AsyncConfig;
 import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.notification.dto.MessageResponseDto;
+import com.giftforyoube.notification.dto.NotificationEventDto;
 import com.giftforyoube.notification.dto.NotificationResponseDto;
 import com.giftforyoube.notification.dto.SubscribeDummyDto;
 import com.giftforyoube.notification.entity.Notification;
@@ -10,7 +12,7 @@ import com.giftforyoube.notification.entity.NotificationType;
 import com.giftforyoube.notification.repository.EmitterRepository;
 import com.giftforyoube.notification.repository.NotificationRepository;
 import com.giftforyoube.user.entity.User;
-import jakarta.mail.MessagingException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,9 +21,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -31,6 +33,21 @@ public class NotificationService {
     private final EmitterRepository emitterRepository;
     private final NotificationRepository notificationRepository;
     private final MailingService mailingService;
+    private final NotificationPublisher notificationPublisher;
+    private final SseDispatcher sseDispatcher;
+    // 이벤트 ID 발급용 시퀀스 (현재 시각(ms) * 1000 이상으로 증가하여 서버 재시작 후에도 이전 ID보다 커짐)
+    private final AtomicLong eventSequence = new AtomicLong();
+    // 구독(재전송 + 연결 등록)과 알림 전달(캐시 저장 + 전송 대기열 추가)을 회원 단위로 직렬화하는 잠금 (회원 ID 해시로 나눈 고정 개수)
+    private static final int USER_LOCK_STRIPES = 64;
+    private final Object[] userLocks = createUserLocks();
+
+    /**
+     * 다른 서버(자기 자신 포함)에서 발행한 알림을 이 서버에 연결된 emitter로 전송하도록 구독합니다.
+     */
+    @PostConstruct
+    public void init() {
+        notificationPublisher.addListener(this::deliverLocal);
+    }
 
     /**
      * 사용자가 SSE(Server-Sent Events)를 통해 실시간 알림을 구독할 수 있도록 합니다.
@@ -49,24 +66,27 @@ public class NotificationService {
         // 사용자별 고유 Emitter ID 생성. 현재 시간을 포함하여 중복 방지
         String emitterId = createTimeIncludeId(username);
 
-        // SseEmitter 객체 생성 및 저장. 기본 타임아웃을 사용하여 자동 연결 종료 관리
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        // SseEmitter 객체 생성. 기본 타임아웃을 사용하여 자동 연결 종료 관리
+        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
         // Nginx를 사용하는 환경에서 SSE 버퍼링 문제 해결을 위한 헤더 설정
         response.setHeader("X-Accel-Buffering", "no");
 
-        // SSE 연결 종료(완료, 시간 초과, 에러) 시 Emitter 저장소에서 해당 Emitter 삭제
-        emitter.onCompletion(() -> emitterRepository.deleteAllEmitterStartWithId(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteAllEmitterStartWithId(emitterId));
-        emitter.onError((e) -> emitterRepository.deleteAllEmitterStartWithId(emitterId));
+        // SSE 연결 종료(완료, 시간 초과, 에러) 시 Emitter 저장소에서 해당 Emitter와 전송 대기열 삭제
+        emitter.onCompletion(() -> removeEmitter(username, emitterId));
+        emitter.onTimeout(() -> removeEmitter(username, emitterId));
+        emitter.onError((e) -> removeEmitter(username, emitterId));
 
-        // 신규 이벤트 ID 생성하여 구독 초기화 이벤트 발송
-        String eventId = createTimeIncludeId(username);
-        sendNotification(emitter, eventId, emitterId, new SubscribeDummyDto(username));
+        // 구독 초기화 이벤트와 놓친 이벤트를 전송 대기열에 넣은 뒤 연결을 등록
+        // 알림 전달과 같은 잠금 안에서 처리하므로, 등록 전의 알림은 재전송으로만, 등록 후의 알림은 실시간으로만 한 번씩 재전송 뒤에 전송됨
+        synchronized (userLock(username)) {
+            sseDispatcher.enqueue(username, emitterId, emitter, createEvent(nextEventId(), new SubscribeDummyDto(username)));
 
-        // 클라이언트가 이전에 놓친 이벤트가 있는 경우, 해당 이벤트 재전송. Event 유실을 예방
-        if (hasLostData(lastEventId)) {
-            sendLostData(lastEventId, username, emitterId, emitter);
+            // 클라이언트가 이전에 놓친 이벤트가 있는 경우, 해당 이벤트 재전송. Event 유실을 예방
+            if (hasLostData(lastEventId)) {
+                sendLostData(lastEventId, username, emitterId, emitter);
+            }
+            emitterRepository.save(username, emitterId, emitter);
         }
         log.info("sse 연결 완료");
         return emitter;
@@ -75,14 +95,13 @@ public class NotificationService {
 
     /**
      * 지정된 사용자에게 알림을 전송합니다. 이 메서드는 먼저 알림을 데이터베이스에 저장하고,
-     * 해당 사용자의 모든 SSE Emitter에 알림을 전송합니다.
+     * 모든 서버로 알림을 발행하여 해당 사용자가 연결된 서버의 SSE Emitter로 전송되게 합니다.
      * 사용자가 이메일 알림 수신에 동의한 경우, 이메일로도 알림을 발송합니다.
      *
      * @param receiver 알림을 받을 사용자 객체
      * @param notificationType 알림의 유형 (펀딩 성공, 펀딩 시간 마감, 후원 발생)
      * @param content 알림에 포함될 메시지 내용
      * @param url 알림과 관련된 자원의 URL
-     * @throws BaseException 이메일 발송 실패 시 예외 발생
      */
     public void send(User receiver, NotificationType notificationType, String content, String url) {
         log.info("메세지 전송 시작...");
@@ -91,37 +110,85 @@ public class NotificationService {
         Notification notification = createNotification(receiver, notificationType, content, url);
         Notification saveNotification = notificationRepository.save(notification);
 
-        // 알림을 받을 사용자의 ID를 기반으로 고유 이벤트 ID 생성
+        // 알림을 받을 사용자의 ID와 고유 이벤트 ID
         String receiverId = receiver.getEmail();
-        String eventId = receiverId + "_" + System.currentTimeMillis();
-
-        // 해당 사용자의 모든 SSE Emitter 검색
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByUserId(receiverId);
-
-        // 각 Emitter에 알림 전송 및 이벤트 캐시에 저장하여 연결 중단 시 재전송 가능하게 함
-        emitters.forEach(
-                (emitterId, emitter) -> {
-                    emitterRepository.saveEventCache(emitterId, saveNotification);
-                    sendNotification(emitter, eventId, emitterId, new MessageResponseDto(
-                            saveNotification.getId(),
-                            saveNotification.getContent(),
-                            saveNotification.getUrl(),
-                            saveNotification.getNotificationType(),
-                            saveNotification.getIsRead(),
-                            saveNotification.getCreatedAt()));
-                }
-        );
-        log.info("메세지 전송 완료");
-
-        // 사용자가 이메일 알림 수신에 동의한 경우, 이에일로 알림 발송
+        long eventId = nextEventId();
+
+        // 모든 서버로 발행, 각 서버가 이벤트 캐시에 저장하고 자기 서버에 연결된 Emitter로 전송
+        MessageResponseDto message = new MessageResponseDto(
+                saveNotification.getId(),
+                saveNotification.getContent(),
+                saveNotification.getUrl(),
+                saveNotification.getNotificationType(),
+                saveNotification.getIsRead(),
+                saveNotification.getCreatedAt());
+        notificationPublisher.publish(receiverId, eventId, message);
+        log.info("메세지 발행 완료");
+
+        // 사용자가 이메일 알림 수신에 동의한 경우, 이에일로 알림 발송 (메일 전송 스레드 풀에서 전송, 실패 시 재시도 큐에 저장)
         if (saveNotification.getReceiver().getIsEmailNotificationAgreed()) {
             log.info("알림 이메일 발송 시작");
-            try {
-                mailingService.sendNotificationEmail(saveNotification);
-            } catch (MessagingException e) {
-                throw new BaseException(BaseResponseStatus.EMAIL_SEND_FAILED);
+            mailingService.sendNotificationEmail(saveNotification);
+        }
+    }
+
+    /**
+     * send와 같은 알림을 호출한 스레드를 막지 않고 비동기로 전송합니다.
+     * 스케줄러처럼 여러 사용자에게 한 번에 알림을 보낼 때 사용하며, 한 사용자의 전송 실패가 다른 전송에 영향을 주지 않도록 예외는 기록만 합니다.
+     * 알림 전송 스레드 풀이 가득 차면 호출한 스레드에서 직접 전송하므로 알림이 버려지지 않습니다.
+     *
+     * @param receiver 알림을 받을 사용자 객체
+     * @param notificationType 알림의 유형
+     * @param content 알림에 포함될 메시지 내용
+     * @param url 알림과 관련된 자원의 URL
+     */
+    @Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
+    public void sendAsync(User receiver, NotificationType notificationType, String content, String url) {
+        try {
+            send(receiver, notificationType, content, url);
+        } catch (RuntimeException e) {
+            log.error("비동기 알림 전송 실패: " + receiver.getEmail(), e);
+        }
+    }
+
+    /**
+     * 발행된 알림을 이벤트 캐시에 저장하고 이 서버에 연결된 사용자의 SSE Emitter 전송 대기열에 넣습니다.
+     * 다른 서버에서 연결이 끊긴 사용자가 이 서버로 다시 연결해도 놓친 알림을 재전송할 수 있도록 연결 여부와 관계없이 캐시에 저장합니다.
+     * 실제 전송은 SSE 전송 스레드 풀에서 연결별로 이루어지므로, 느리거나 끊어진 연결이 다른 연결과 알림 발행을 막지 않습니다.
+     * 캐시 저장과 대기열 추가는 구독과 같은 회원 잠금 안에서 처리하여, 구독 중인 연결에 같은 알림이 재전송과 실시간 전송으로 두 번 가지 않도록 합니다.
+     *
+     * @param batch 사용자 ID별 알림 이벤트 목록
+     */
+    private void deliverLocal(Map<String, List<NotificationEventDto>> batch) {
+        batch.forEach((userId, events) -> {
+            synchronized (userLock(userId)) {
+                events.forEach(event -> emitterRepository.saveEventCache(userId, event.getEventId(), event.getMessage()));
+                Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterByUserId(userId);
+                emitters.forEach((emitterId, emitter) -> {
+                    for (NotificationEventDto event : events) {
+                        sseDispatcher.enqueue(userId, emitterId, emitter, createEvent(event.getEventId(), event.getMessage()));
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * 이 서버에 연결된 모든 SSE Emitter의 전송 대기열에 하트비트(주석 이벤트)를 넣습니다.
+     * 클라이언트가 응답 없이 사라진 연결은 전송이 실패하여 저장소에서 정리되고, 하트비트가 쌓일 만큼 느린 연결은 종료되며,
+     * 알림이 없는 동안에도 주기적으로 데이터가 흐르므로 프록시(Nginx 등)가 유휴 연결을 끊지 않습니다.
+     *
+     * @return 하트비트를 넣은 연결 수
+     */
+    public int sendHeartbeat() {
+        int heartbeatCount = 0;
+        for (Map.Entry<String, Map<String, SseEmitter>> userEmitters : emitterRepository.findAllEmitters().entrySet()) {
+            for (Map.Entry<String, SseEmitter> entry : userEmitters.getValue().entrySet()) {
+                sseDispatcher.enqueue(userEmitters.getKey(), entry.getKey(), entry.getValue(), SseEmitter.event().comment("heartbeat"));
+                heartbeatCount++;
             }
         }
+        return heartbeatCount;
     }
 
     /**
@@ -144,8 +211,9 @@ public class NotificationService {
     }
 
     /**
-     * 사용자에게 누락된 알림 데이터를 전송합니다.
-     * 마지막으로 수신한 이벤트 ID 이후의 모든 이벤트를 조회하여 전송합니다.
+     * 사용자에게 누락된 알림 데이터를 전송 대기열에 넣습니다.
+     * 마지막으로 수신한 이벤트 ID 이후의 이벤트를 보관 중인 것만 조회하여 ID 순서로 넣습니다.
+     * 숫자가 아닌 이전 형식의 이벤트 ID는 재전송하지 않습니다.
      *
      * @param lastEventId 사용자가 마지막으로 수신한 이벤트의 ID
      * @param username 사용자의 이름
@@ -153,10 +221,16 @@ public class NotificationService {
      * @param emitter 이벤트를 전송할 SseEmitter 객체
      */
     private void sendLostData(String lastEventId, String username, String emitterId, SseEmitter emitter) {
-        Map<String, Object> eventCaches = emitterRepository.findAllEventCacheStartWithByUserId(username); // 이벤트 캐시 조회
-        eventCaches.entrySet().stream()
-                .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0) // 놓친 이벤트 필터링
-                .forEach(entry -> sendNotification(emitter, entry.getKey(), emitterId, entry.getValue())); // 놓친 이벤트 전송
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            log.info("재전송하지 않는 이벤트 ID 형식: " + lastEventId);
+            return;
+        }
+        Map<Long, Object> eventCaches = emitterRepository.findAllEventCacheAfter(username, lastSequence); // 놓친 이벤트 조회
+        eventCaches.forEach((eventId, event) ->
+                sseDispatcher.enqueue(username, emitterId, emitter, createEvent(eventId, event))); // 놓친 이벤트 전송
     }
 
     /**
@@ -169,28 +243,31 @@ public class NotificationService {
         return !lastEventId.isEmpty();
     }
 
-    /**
-     * 주어진 SseEmitter를 사용하여 알림을 전송합니다.
-     * 전송 중 오류가 발생하면, 해당 emitter를 삭제하고 예외를 발생시킵니다.
-     *
-     * @param emitter 알림을 전송할 SseEmitter 객체
-     * @param eventId 알림 이벤트의 ID
-     * @param emitterId 알림을 전송할 SseEmitter의 ID
-     * @param data 전송할 데이터
-     * @throws BaseException 알림 전송 실패 시
-     */
-    private void sendNotification(SseEmitter emitter, String eventId, String emitterId, Object data) {
-        try {
-            emitter.send(SseEmitter.event()
-                    .id(eventId)
-                    .name("sse")
-                    .data(data)
-            );
-        } catch (IOException exception) {
-            emitterRepository.deleteById(emitterId);
-//            throw new BaseException(BaseResponseStatus.NOTIFICATION_SEND_FAILED);
-            throw new RuntimeException("sse send failed" + exception);
+    // 알림 SSE 이벤트 생성
+    private SseEmitter.SseEventBuilder createEvent(long eventId, Object data) {
+        return SseEmitter.event()
+                .id(String.valueOf(eventId))
+                .name("sse")
+                .data(data);
+    }
+
+    // 회원 ID에 해당하는 잠금
+    private Object userLock(String userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), USER_LOCK_STRIPES)];
+    }
+
+    private static Object[] createUserLocks() {
+        Object[] locks = new Object[USER_LOCK_STRIPES];
+        for (int i = 0; i < USER_LOCK_STRIPES; i++) {
+            locks[i] = new Object();
         }
+        return locks;
+    }
+
+    // 종료된 연결을 저장소와 전송 대기열에서 삭제
+    private void removeEmitter(String username, String emitterId) {
+        emitterRepository.deleteById(username, emitterId);
+        sseDispatcher.remove(emitterId);
     }
 
     /**
@@ -204,6 +281,12 @@ public class NotificationService {
         return username + "_" + System.currentTimeMillis();
     }
 
+    // 증가하는 숫자 이벤트 ID 발급, 문자열이 아닌 숫자로 비교하므로 자릿수가 달라도 순서가 어긋나지 않음
+    private long nextEventId() {
+        long now = System.currentTimeMillis() * 1000;
+        return eventSequence.accumulateAndGet(now, (previous, current) -> Math.max(previous + 1, current));
+    }
+
     // user로 해당 user의 전체 알림목록을 조회
     @Transactional(readOnly = true)
     public List<NotificationResponseDto> getNotifications(User user) {
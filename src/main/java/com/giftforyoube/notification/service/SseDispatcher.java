@@ -0,0 +1,186 @@
+package com.giftforyoube.notification.service;
+
+import com.giftforyoube.global.config.AsyncConfig;
+import com.giftforyoube.notification.repository.EmitterRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 이벤트를 연결별 전송 대기열에 넣고, SSE 전송 스레드 풀에서 비동기로 전송합니다.
+ * 알림을 만드는 쪽(후원 승인 요청, 스케줄러, 알림 발행 구독)은 대기열에 넣기만 하므로 느린 클라이언트 소켓 때문에 멈추지 않습니다.
+ * - 한 연결의 이벤트는 한 번에 하나의 작업만 전송하므로 순서가 유지되고, 작업마다 최대 DRAIN_BATCH_SIZE 개만 보내 다른 연결이 밀리지 않도록 함
+ * - 대기열이 가득 찬 연결은 느린 클라이언트로 보고 대기 중인 이벤트를 버린 뒤 연결을 종료
+ *   (클라이언트가 Last-Event-ID로 다시 연결하면 이벤트 캐시에서 재전송)
+ * - 전송에 실패한 (끊어진) 연결은 저장소에서 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseDispatcher implements MeterBinder {
+
+    private static final int MAX_QUEUED_EVENTS = 200; // 연결별 전송 대기 이벤트 수 (재연결 시 구독 이벤트와 재전송 버퍼(100개) 전체가 한 번에 들어가도 여유가 있도록 두 배)
+    private static final int DRAIN_BATCH_SIZE = 20; // 작업 하나가 연속으로 전송하는 이벤트 수
+
+    private final EmitterRepository emitterRepository;
+    @Qualifier(AsyncConfig.SSE_TASK_EXECUTOR)
+    private final TaskExecutor sseTaskExecutor;
+
+    private final Map<String, Outbox> outboxes = new ConcurrentHashMap<>(); // emitter ID -> 전송 대기열
+    private final AtomicLong droppedEventCount = new AtomicLong(); // 느린 연결 종료로 버린 이벤트 수
+    private final AtomicLong slowDisconnectCount = new AtomicLong(); // 대기열이 가득 차 종료한 연결 수
+
+    // 전송 대기열 지표
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.outbound.connections", outboxes, Map::size)
+                .description("전송 대기열이 있는 SSE 연결 수")
+                .register(registry);
+        Gauge.builder("sse.outbound.queued", this, SseDispatcher::queuedEventCount)
+                .description("전송 대기 중인 SSE 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("sse.outbound.dropped", droppedEventCount, AtomicLong::get)
+                .description("느린 연결을 종료하며 버린 SSE 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("sse.outbound.slow.disconnected", slowDisconnectCount, AtomicLong::get)
+                .description("전송 대기열이 가득 차 종료한 SSE 연결 수")
+                .register(registry);
+    }
+
+    /**
+     * 이벤트를 연결의 전송 대기열에 넣고, 전송 작업이 없으면 예약합니다. 소켓 쓰기를 기다리지 않습니다.
+     *
+     * @param userId 회원 ID
+     * @param emitterId 이벤트를 전송할 emitter ID
+     * @param emitter 이벤트를 전송할 emitter
+     * @param event 전송할 이벤트
+     */
+    public void enqueue(String userId, String emitterId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        Outbox outbox = outboxes.compute(emitterId, (key, existing) ->
+                existing == null || existing.emitter != emitter ? new Outbox(userId, emitterId, emitter) : existing);
+        if (!outbox.queue.offer(event)) {
+            disconnectSlow(outbox);
+            return;
+        }
+        schedule(outbox);
+    }
+
+    /**
+     * 종료된 연결의 전송 대기열을 삭제합니다.
+     *
+     * @param emitterId 종료된 emitter ID
+     */
+    public void remove(String emitterId) {
+        Outbox outbox = outboxes.remove(emitterId);
+        if (outbox != null) {
+            outbox.close();
+        }
+    }
+
+    // 대기 중인 이벤트가 있고 전송 작업이 없을 때만 예약, 스레드 풀이 가득 차면 이벤트는 대기열에 남겨두고 다음 기회에 다시 예약
+    private void schedule(Outbox outbox) {
+        if (outbox.closed.get() || outbox.queue.isEmpty() || !outbox.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sseTaskExecutor.execute(() -> drain(outbox));
+        } catch (TaskRejectedException e) {
+            outbox.scheduled.set(false);
+            log.warn("SSE 전송 작업 거부, 다음 이벤트 때 다시 시도: " + outbox.emitterId);
+        }
+    }
+
+    // 대기열의 이벤트를 순서대로 전송, 남은 이벤트나 전송 중에 들어온 이벤트는 다시 예약
+    private void drain(Outbox outbox) {
+        try {
+            for (int i = 0; i < DRAIN_BATCH_SIZE && !outbox.closed.get(); i++) {
+                SseEmitter.SseEventBuilder event = outbox.queue.poll();
+                if (event == null) {
+                    break;
+                }
+                try {
+                    outbox.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // IOException : 끊어진 연결, IllegalStateException : 이미 종료된 연결
+                    log.info("SSE 전송 실패, 연결 삭제: " + outbox.emitterId);
+                    if (discard(outbox)) {
+                        emitterRepository.reap(outbox.userId, outbox.emitterId);
+                    }
+                    return;
+                }
+            }
+        } finally {
+            outbox.scheduled.set(false);
+        }
+        schedule(outbox);
+    }
+
+    // 대기열이 가득 찬 연결 종료, 전송 중인 스레드가 emitter 잠금을 잡고 있을 수 있으므로 종료도 전송 스레드 풀에서 실행
+    private void disconnectSlow(Outbox outbox) {
+        int droppedCount = outbox.queue.size() + 1;
+        if (!discard(outbox)) {
+            return; // 다른 스레드가 이미 종료함
+        }
+        droppedEventCount.addAndGet(droppedCount);
+        slowDisconnectCount.incrementAndGet();
+        emitterRepository.deleteById(outbox.userId, outbox.emitterId);
+        log.info("SSE 전송 대기열 초과, 느린 연결 종료: " + outbox.emitterId);
+        try {
+            sseTaskExecutor.execute(outbox.emitter::complete);
+        } catch (TaskRejectedException e) {
+            log.warn("SSE 연결 종료 작업 거부, 연결 시간 초과 시 종료: " + outbox.emitterId);
+        }
+    }
+
+    // 대기열 삭제, 이 호출에서 처음 닫았으면 true
+    private boolean discard(Outbox outbox) {
+        outboxes.remove(outbox.emitterId, outbox);
+        return outbox.close();
+    }
+
+    private int queuedEventCount() {
+        int count = 0;
+        for (Outbox outbox : outboxes.values()) {
+            count += outbox.queue.size();
+        }
+        return count;
+    }
+
+    // 연결 하나의 전송 대기열
+    private static final class Outbox {
+        private final String userId;
+        private final String emitterId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(MAX_QUEUED_EVENTS);
+        private final AtomicBoolean scheduled = new AtomicBoolean(); // 전송 작업 예약 / 실행 중 여부
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Outbox(String userId, String emitterId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitterId = emitterId;
+            this.emitter = emitter;
+        }
+
+        private boolean close() {
+            boolean first = closed.compareAndSet(false, true);
+            queue.clear();
+            return first;
+        }
+    }
+}
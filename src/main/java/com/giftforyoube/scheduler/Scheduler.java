@@ -1,19 +1,36 @@
 package com.giftforyoube.scheduler;
 
+import com.giftforyoube.donation.service.DonationOutboxWorker;
 import com.giftforyoube.funding.entity.Funding;
 import com.giftforyoube.funding.entity.FundingStatus;
 import com.giftforyoube.funding.repository.FundingRepository;
 import com.giftforyoube.funding.service.CacheService;
+import com.giftforyoube.funding.service.FundingFeedService;
+import com.giftforyoube.funding.service.FundingSummaryService;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.repository.EmitterRepository;
+import com.giftforyoube.notification.service.MailingService;
 import com.giftforyoube.notification.service.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "Scheduler")
 @Component
@@ -23,31 +40,147 @@ public class Scheduler {
     private final FundingRepository fundingRepository;
     private final NotificationService notificationService;
     private final CacheService cacheService;
+    private final FundingFeedService fundingFeedService;
+    private final FundingSummaryService fundingSummaryService;
+    private final DonationOutboxWorker donationOutboxWorker;
+    private final MailingService mailingService;
+    private final EmitterRepository emitterRepository;
+    private final MeterRegistry meterRegistry;
+    private final RedissonClient redissonClient;
+
+    // 한 번에 종료 처리할 펀딩 수 (트랜잭션 / 메모리 사용량 제한)
+    private static final int AUTO_FINISH_CHUNK_SIZE = 500;
+    // 여러 서버 중 한 곳에서만 마감 처리하도록 잡는 락 (대기 없이 시도, 작업이 길어져도 풀리지 않도록 넉넉한 임대 시간)
+    private static final String AUTO_FINISH_LOCK_KEY = "autoFinishFundingsLock";
+    private static final long AUTO_FINISH_LOCK_LEASE_MILLIS = 30 * 60 * 1000L;
+
     // 매일 자정에 실행, 마감일이 지난 펀딩의 상태를 업데이트
     // 초, 분, 시, 일, 월, 주 순서
+    // 전체를 한 번에 불러오지 않고 묶음 단위로 ID 조회 -> 일괄 UPDATE -> 소유자 fetch join 조회 -> 비동기 알림 순서로 처리
     @Scheduled(cron = "0 0 0 * * ?")
     @CacheEvict(value = {"activeMainFundings", "activeFundings", "finishedFundings", "fundingDetail"}, allEntries = true)
     public void autoFinishFundings() {
+        RLock lock = redissonClient.getLock(AUTO_FINISH_LOCK_KEY);
+        try {
+            if (!lock.tryLock(0, AUTO_FINISH_LOCK_LEASE_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.info("[autoFinishFundings] 다른 서버에서 마감 처리 중이므로 건너뜀");
+                return;
+            }
+            finishExpiredFundings();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.UNABLE_TO_ACQUIRE_ROCK_INTERRUPT);
+        } finally {
+            if (lock.isLocked() && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 묶음마다 같은 시각으로 상태를 바꾸고, 그 시각으로 찍힌 행만 다시 조회하여 이번 실행에서 종료된 펀딩에만 알림
+    private void finishExpiredFundings() {
         log.info("마감일 종료 상태 업데이트 실행");
         LocalDate currentDate = LocalDate.now();
-//        List<Funding> fundings = fundingRepository.findByEndDateLessThanAndStatus(currentDate, FundingStatus.ACTIVE);
-        List<Funding> fundings = fundingRepository.findByEndDateLessThanEqualAndStatus(currentDate, FundingStatus.ACTIVE);
-        for (Funding funding : fundings) {
-            funding.setStatus(FundingStatus.FINISHED);
-            fundingRepository.save(funding);
+        int chunkCount = 0;
+        int finishedCount = 0;
+        List<Long> fundingIds;
+        while (!(fundingIds = fundingRepository.findIdsByEndDateLessThanEqualAndStatus(
+                currentDate, FundingStatus.ACTIVE, PageRequest.of(0, AUTO_FINISH_CHUNK_SIZE))).isEmpty()) {
+            Timer.Sample sample = Timer.start(meterRegistry);
 
+            // 컬럼 소수초 정밀도와 관계없이 같은 값으로 비교되도록 초 단위로 자름
+            LocalDateTime finishedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            int updatedCount = fundingRepository.updateStatusByIdIn(fundingIds, FundingStatus.ACTIVE, FundingStatus.FINISHED, finishedAt);
+            List<Funding> fundings = updatedCount == 0 ? List.of()
+                    : fundingRepository.findAllWithUserByIdInAndStatusAndModifiedAt(fundingIds, FundingStatus.FINISHED, finishedAt);
+            fundingFeedService.indexAll(fundings);
+            int notificationCount = sendTimeOutNotifications(fundings);
 
+            sample.stop(meterRegistry.timer("funding.autofinish.chunk"));
+            meterRegistry.counter("funding.autofinish.finished").increment(updatedCount);
+            meterRegistry.counter("funding.autofinish.notifications").increment(notificationCount);
+            chunkCount++;
+            finishedCount += updatedCount;
+            log.info("[autoFinishFundings] " + chunkCount + "번째 묶음 종료: " + updatedCount + "건, 알림 " + notificationCount + "건 (누적 " + finishedCount + "건)");
+        }
+        if (finishedCount > 0) {
+            cacheService.clearFundingCaches();
+        }
+    }
+
+    // 이메일 수신 동의한 소유자에게 펀딩 마감 알림 발송을 비동기 작업으로 넘기고, 요청한 알림 수를 반환
+    private int sendTimeOutNotifications(List<Funding> fundings) {
+        int notificationCount = 0;
+        for (Funding funding : fundings) {
             // 이메일 수신 동의 했을때
             if (funding.getUser().getIsEmailNotificationAgreed()) {
                 // 알림메세지 발송
-                log.info("[autoFinishFundings] 펀딩 마감! 펀딩 종료!");
                 String content = "펀딩 마감일이되어 펀딩이 종료되었습니다.";
                 String url = "https://giftipie.me/fundingdetail/" + funding.getId();
-                NotificationType notificationType = NotificationType.FUNDING_TIME_OUT;
-                notificationService.send(funding.getUser(), notificationType, content, url);
+                notificationService.sendAsync(funding.getUser(), NotificationType.FUNDING_TIME_OUT, content, url);
+                notificationCount++;
             }
+        }
+        return notificationCount;
+    }
 
+    // 서버 시작 시 정렬용 파생 컬럼을 채우고, 펀딩 목록 인덱스가 없다면 DB에서 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initFundingFeed() {
+        int backfilledCount = fundingRepository.backfillSortColumns();
+        if (backfilledCount > 0) {
+            log.info("정렬 컬럼 채우기 완료: " + backfilledCount + "건");
+            fundingFeedService.rebuild();
+            return;
         }
-        cacheService.clearFundingCaches();
+        fundingFeedService.rebuildIfAbsent();
+    }
+
+    // 매일 새벽 4시 30분에 실행, 갱신 실패 등으로 어긋난 펀딩 목록 인덱스를 DB 기준으로 재구축
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void rebuildFundingFeed() {
+        log.info("펀딩 목록 인덱스 재구축 실행");
+        fundingFeedService.rebuild();
+    }
+
+    // 30초마다 실행, 서버 재시작 등으로 반영되지 않은 후원을 다시 반영
+    @Scheduled(fixedDelay = 30000)
+    public void retryPendingDonations() {
+        int retriedCount = donationOutboxWorker.processPending();
+        if (retriedCount > 0) {
+            log.info("미반영 후원 재처리: " + retriedCount + "건");
+        }
+    }
+
+    // 1분마다 실행, 메일 전송 스레드 풀이 가득 차 거부되었거나 전송에 실패한 메일을 다시 전송
+    @Scheduled(fixedDelay = 60000)
+    public void retryPendingMails() {
+        int retriedCount = mailingService.retryPendingMails();
+        if (retriedCount > 0) {
+            log.info("미전송 메일 재전송 요청: " + retriedCount + "건");
+        }
+    }
+
+    // 1분마다 실행, 보관 기간이 지난 SSE 재전송용 이벤트 삭제
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredNotificationEvents() {
+        int evictedCount = emitterRepository.evictExpiredEventCache();
+        if (evictedCount > 0) {
+            log.info("보관 기간이 지난 알림 이벤트 삭제: " + evictedCount + "건");
+        }
+    }
+
+    // 30초마다 실행, SSE 연결에 하트비트를 보내 끊어진 연결 정리 (Nginx 기본 유휴 시간 60초보다 짧게)
+    // 전송은 SSE 전송 스레드 풀에서 하므로 스케줄러 스레드는 느린 연결을 기다리지 않음, 정리된 연결 수는 sse.emitters.reaped 지표로 확인
+    @Scheduled(fixedDelay = 30000)
+    public void sendSseHeartbeat() {
+        notificationService.sendHeartbeat();
+    }
+
+    // 매일 새벽 5시에 실행, 펀딩 통계 샤드를 하나로 합치고 쓰이지 않는 통계 행 정리
+    @Scheduled(cron = "0 0 5 * * ?")
+    public void compactFundingSummary() {
+        log.info("펀딩 통계 압축 실행");
+        fundingSummaryService.compact();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,499 @@
+package com.giftforyoube.donation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftforyoube.donation.dto.AppliedDonationDto;
+import com.giftforyoube.donation.dto.ApproveDonationResponseDto;
+import com.giftforyoube.donation.dto.DonationAcceptedEvent;
+import com.giftforyoube.donation.dto.DonationCursorResponseDto;
+import com.giftforyoube.donation.dto.DonationInfoResponseDto;
+import com.giftforyoube.donation.entity.Donation;
+import com.giftforyoube.donation.entity.DonationOutbox;
+import com.giftforyoube.donation.entity.DonationOutboxStatus;
+import com.giftforyoube.donation.repository.DonationOutboxRepository;
+import com.giftforyoube.donation.repository.DonationRepository;
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.funding.repository.FundingRepository;
+import com.giftforyoube.funding.service.CacheService;
+import com.giftforyoube.funding.service.FundingFeedService;
+import com.giftforyoube.funding.service.FundingSummaryService;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.notification.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DonationServiceTest {
+
+    @Mock
+    private DonationRepository donationRepository;
+
+    @Mock
+    private DonationOutboxRepository donationOutboxRepository;
+
+    @Mock
+    private FundingRepository fundingRepository;
+
+    @Mock
+    private KakaoPayClient kakaoPayClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock rankingLock;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private DonationService donationService;
+
+    @Test
+    @DisplayName("getDonationRanking 테스트 - 랭킹 키 하나만 읽고 후원 목록은 조회하지 않음")
+    void getDonationRankingTest() {
+        // given : 펀딩 3의 마지막 랭킹이 41
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("donationRanking:3")).thenReturn("41");
+
+        // when & then : 다음 후원자의 랭킹은 42
+        assertEquals(42, donationService.getDonationRanking(3L));
+        verifyNoInteractions(donationRepository);
+    }
+
+    @Test
+    @DisplayName("getDonationRanking 테스트 - 랭킹 키가 없으면 DB의 마지막 랭킹으로 계산하고 키는 초기화하지 않음")
+    void initDonationRankingTest() {
+        // given : Redis 초기화 등으로 랭킹 키가 없고, DB의 마지막 랭킹은 7
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("donationRanking:3")).thenReturn(null);
+        when(donationRepository.findMaxDonationRankingByFundingId(3L)).thenReturn(7);
+
+        // when & then : 다음 랭킹 8 반환, 키 초기화는 펀딩 잠금을 잡은 후원 반영에서만
+        assertEquals(8, donationService.getDonationRanking(3L));
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("getDonationsByFundingId 테스트 - 커서 다음 랭킹부터 DTO로 조회하고 마지막 랭킹을 다음 커서로 반환")
+    void getDonationsByCursorTest() {
+        // given : 랭킹 40 다음 페이지(크기 2) 요청, 한 건 더 조회됨
+        when(donationRepository.findInfoByFundingIdAfterRanking(eq(3L), eq(40), any(Pageable.class)))
+                .thenReturn(List.of(donation(41), donation(42), donation(43)));
+
+        // when : 커서 페이지 조회
+        DonationCursorResponseDto response = donationService.getDonationsByFundingId(3L, "40", 2);
+
+        // then : 요청 크기만큼 반환하고 다음 커서는 42, 첫 페이지가 아니므로 캐시는 사용하지 않음
+        assertEquals(List.of(41, 42), response.getContent().stream().map(DonationInfoResponseDto::getDonationRanking).toList());
+        assertEquals("42", response.getNextCursor());
+        assertFalse(response.isLast());
+        verify(redisTemplate, never()).opsForList();
+    }
+
+    @Test
+    @DisplayName("getDonationsByFundingId 테스트 - 캐시된 첫 페이지는 DB 조회 없이 랭킹 순으로 반환")
+    void getCachedFirstPageTest() throws Exception {
+        // given : 동시 추가로 순서가 바뀌고 중복된 첫 페이지 캐시
+        ReflectionTestUtils.setField(donationService, "objectMapper", objectMapper);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("donationFirstPage:3", 0, -1)).thenReturn(List.of(
+                objectMapper.writeValueAsString(donation(1)),
+                objectMapper.writeValueAsString(donation(3)),
+                objectMapper.writeValueAsString(donation(2)),
+                objectMapper.writeValueAsString(donation(3))));
+
+        // when : 첫 페이지 조회
+        DonationCursorResponseDto response = donationService.getDonationsByFundingId(3L, "", 20);
+
+        // then : 랭킹 순으로 정리되고 DB는 조회하지 않음
+        assertEquals(List.of(1, 2, 3), response.getContent().stream().map(DonationInfoResponseDto::getDonationRanking).toList());
+        assertTrue(response.isLast());
+        assertNull(response.getNextCursor());
+        verifyNoInteractions(donationRepository);
+    }
+
+    @Test
+    @DisplayName("getDonationsByFundingId 테스트 - 첫 페이지를 DB에서 읽는 중에 추가된 후원이 캐시에서 빠지지 않음")
+    void cacheFirstPageRaceTest() throws Exception {
+        // given : 캐시가 없는 첫 페이지를 DB에서 읽는 도중 랭킹 2 후원이 반영되어 캐시 추가 시도
+        ReflectionTestUtils.setField(donationService, "objectMapper", objectMapper);
+        Map<String, String> values = new HashMap<>();
+        Map<String, List<String>> lists = new HashMap<>();
+        stubFirstPageCache(values, lists);
+        when(donationRepository.findInfoByFundingIdAfterRanking(eq(3L), eq(0), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    ReflectionTestUtils.invokeMethod(donationService, "appendToFirstPageCache", 3L, donation(2));
+                    return List.of(donation(1));
+                })
+                .thenReturn(List.of(donation(1), donation(2)));
+
+        // when : 후원 2가 빠진 페이지를 읽은 조회
+        donationService.getDonationsByFundingId(3L, "", 20);
+
+        // then : 읽는 중에 버전이 바뀌었으므로 캐시하지 않음
+        assertNull(lists.get("donationFirstPage:3"));
+
+        // when : 다음 조회가 캐시를 채운 뒤 후원 3 추가
+        donationService.getDonationsByFundingId(3L, "", 20);
+        ReflectionTestUtils.invokeMethod(donationService, "appendToFirstPageCache", 3L, donation(3));
+
+        // then : 캐시된 첫 페이지에 후원 1, 2, 3이 모두 있음
+        DonationCursorResponseDto response = donationService.getDonationsByFundingId(3L, "", 20);
+        assertEquals(List.of(1, 2, 3), response.getContent().stream().map(DonationInfoResponseDto::getDonationRanking).toList());
+        verify(donationRepository, times(2)).findInfoByFundingIdAfterRanking(eq(3L), eq(0), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getDonationsByFundingId 테스트 - 잘못된 커서는 예외")
+    void invalidDonationCursorTest() {
+        // when & then
+        assertThrows(BaseException.class, () -> donationService.getDonationsByFundingId(3L, "abc", 20));
+        verifyNoInteractions(donationRepository);
+    }
+
+    @Test
+    @DisplayName("approveDonation 테스트 - 이미 기록된 결제는 결제 승인을 다시 요청하지 않음")
+    void approveDonationIdempotencyTest() {
+        // given : 같은 tid로 승인 요청이 다시 들어와 outbox 선점에 실패
+        when(donationOutboxRepository.saveAndFlush(any(DonationOutbox.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'T1234'"));
+
+        // when : 결제 승인
+        donationService.approveDonation("T1234", "pgToken", "nickname", "comment", 3L, null);
+
+        // then : KakaoPay 호출 없이 반환
+        verifyNoInteractions(kakaoPayClient);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("approveDonation 테스트 - 결제 승인 전에 outbox를 기록하고, 승인되면 반영 대기로 변경")
+    void approveDonationTest() throws Exception {
+        // given : 5000원 결제 승인 응답
+        when(kakaoPayClient.approve("T1234", "pgToken"))
+                .thenReturn(objectMapper.readValue("{\"amount\":{\"total\":5000}}", ApproveDonationResponseDto.class));
+
+        // when : 결제 승인
+        donationService.approveDonation("T1234", "pgToken", "nickname", "comment", 3L, null);
+
+        // then : APPROVING으로 선점 -> 결제 승인 -> 승인 금액과 함께 PENDING으로 저장 순서로 처리
+        ArgumentCaptor<DonationOutbox> captor = ArgumentCaptor.forClass(DonationOutbox.class);
+        var inOrder = inOrder(donationOutboxRepository, kakaoPayClient, eventPublisher);
+        inOrder.verify(donationOutboxRepository).saveAndFlush(captor.capture());
+        inOrder.verify(kakaoPayClient).approve("T1234", "pgToken");
+        inOrder.verify(donationOutboxRepository).save(captor.getValue());
+        inOrder.verify(eventPublisher).publishEvent(any(DonationAcceptedEvent.class));
+        assertEquals(DonationOutboxStatus.PENDING, captor.getValue().getStatus());
+        assertEquals(5000, captor.getValue().getDonationAmount());
+    }
+
+    @Test
+    @DisplayName("approveDonation 테스트 - 결제 승인에 실패하면 outbox를 실패로 남기고 반영하지 않음")
+    void approveDonationFailureTest() {
+        // given : 결제 승인 응답 시간 초과
+        when(kakaoPayClient.approve("T1234", "pgToken")).thenThrow(new ResourceAccessException("Read timed out"));
+
+        // when : 결제 승인
+        assertThrows(ResourceAccessException.class,
+                () -> donationService.approveDonation("T1234", "pgToken", "nickname", "comment", 3L, null));
+
+        // then : tid로 확인할 수 있도록 FAILED로 남기고 워커에 넘기지 않음
+        ArgumentCaptor<DonationOutbox> captor = ArgumentCaptor.forClass(DonationOutbox.class);
+        verify(donationOutboxRepository).save(captor.capture());
+        assertEquals(DonationOutboxStatus.FAILED, captor.getValue().getStatus());
+        assertEquals("T1234", captor.getValue().getTid());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("applyDonation 테스트 - 이미 반영된 후원은 다시 반영하지 않음")
+    void applyDonationOnceTest() {
+        // given : 워커 재시도 시점에 이미 반영 완료된 후원
+        DonationOutbox outbox = DonationOutbox.builder()
+                .tid("T1234")
+                .fundingId(3L)
+                .donationAmount(5000)
+                .build();
+        outbox.markDone();
+        when(donationOutboxRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(outbox));
+
+        // when & then : 금액 누적 없이 null 반환
+        assertNull(donationService.applyDonation(1L));
+        verify(fundingRepository, never()).addDonationAmount(anyLong(), anyInt());
+        verifyNoInteractions(donationRepository);
+    }
+
+    @Test
+    @DisplayName("applyDonation 테스트 - 랭킹 키가 없으면 짧은 락 안에서 DB의 마지막 랭킹으로 초기화하고, 펀딩 행은 잠그지 않음")
+    void applyDonationRankingSeedTest() throws Exception {
+        // given : 반영 대기 중인 후원, 랭킹 키가 없고 DB의 마지막 랭킹은 7
+        DonationOutbox outbox = DonationOutbox.builder()
+                .tid("T1234")
+                .fundingId(3L)
+                .build();
+        outbox.markApproved(5000);
+        when(donationOutboxRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(outbox));
+        when(fundingRepository.findById(3L)).thenReturn(Optional.of(Funding.builder().targetAmount(10000).build()));
+        when(redisTemplate.hasKey("donationRanking:3")).thenReturn(false);
+        when(redissonClient.getLock("donationRankingLock:3")).thenReturn(rankingLock);
+        when(rankingLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(donationRepository.findMaxDonationRankingByFundingId(3L)).thenReturn(7);
+        when(valueOperations.increment("donationRanking:3")).thenReturn(8L);
+
+        // when : 후원 반영
+        AppliedDonationDto applied = donationService.applyDonation(1L);
+
+        // then : 락 획득 -> 마지막 랭킹 조회 -> SETNX 초기화 -> INCR 순서로 랭킹 8 발급
+        assertEquals(8, applied.getDonationRanking());
+        var inOrder = inOrder(rankingLock, donationRepository, valueOperations);
+        inOrder.verify(rankingLock).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        inOrder.verify(donationRepository).findMaxDonationRankingByFundingId(3L);
+        inOrder.verify(valueOperations).setIfAbsent("donationRanking:3", "7");
+        inOrder.verify(valueOperations).increment("donationRanking:3");
+    }
+
+    @Test
+    @DisplayName("applyDonation 테스트 - 랭킹 키가 있으면 락 없이 INCR로만 랭킹 발급")
+    void applyDonationRankingTest() {
+        // given : 반영 대기 중인 후원, 랭킹 키가 있음
+        DonationOutbox outbox = DonationOutbox.builder()
+                .tid("T1234")
+                .fundingId(3L)
+                .build();
+        outbox.markApproved(5000);
+        when(donationOutboxRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(outbox));
+        when(fundingRepository.findById(3L)).thenReturn(Optional.of(Funding.builder().targetAmount(10000).build()));
+        when(redisTemplate.hasKey("donationRanking:3")).thenReturn(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("donationRanking:3")).thenReturn(42L);
+
+        // when : 후원 반영
+        AppliedDonationDto applied = donationService.applyDonation(1L);
+
+        // then : 락과 DB 조회 없이 랭킹 42 발급
+        assertEquals(42, applied.getDonationRanking());
+        verifyNoInteractions(redissonClient);
+        verify(donationRepository, never()).findMaxDonationRankingByFundingId(anyLong());
+    }
+
+    // 첫 페이지 캐시 Lua 스크립트와 같은 동작을 하는 메모리 Redis
+    private void stubFirstPageCache(Map<String, String> values, Map<String, List<String>> lists) {
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range(anyString(), eq(0L), eq(-1L))).thenAnswer(invocation -> lists.get(invocation.<String>getArgument(0)));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            RedisScript<?> script = invocation.getArgument(0);
+            List<String> keys = invocation.getArgument(1);
+            Object[] arguments = invocation.getArguments();
+            Object[] args = arguments.length == 3 && arguments[2] instanceof Object[] array
+                    ? array : Arrays.copyOfRange(arguments, 2, arguments.length);
+            if (script.getScriptAsString().contains("RPUSHX")) {
+                values.merge(keys.get(1), "1", (version, one) -> String.valueOf(Long.parseLong(version) + 1));
+                List<String> cached = lists.get(keys.get(0));
+                if (cached == null) {
+                    return 0L;
+                }
+                cached.add((String) args[0]);
+                return (long) cached.size();
+            }
+            if (!values.getOrDefault(keys.get(1), "0").equals(args[0]) || lists.containsKey(keys.get(0))) {
+                return 0L;
+            }
+            List<String> page = new ArrayList<>();
+            for (int i = 2; i < args.length; i++) {
+                page.add((String) args[i]);
+            }
+            lists.put(keys.get(0), page);
+            return 1L;
+        });
+    }
+
+    // 동시 후원 반영 검증을 위해 실제 트랜잭션 프록시와 H2로 applyDonation을 실행하고, 각 스레드가 자기 트랜잭션으로 커밋하도록 테스트 트랜잭션을 사용하지 않음
+    @Nested
+    @DataJpaTest(properties = {
+            "spring.datasource.url=jdbc:h2:mem:donation;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+            "spring.jpa.hibernate.ddl-auto=create-drop"
+    })
+    @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+    @Import(DonationService.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class ConcurrentApplyDonationTest {
+
+        private static final int THREAD_COUNT = 16;
+        private static final int DONATION_COUNT = 400;
+        private static final int DONATION_AMOUNT = 1000;
+
+        @Autowired
+        private DonationService appliedDonationService;
+
+        @Autowired
+        private DonationRepository appliedDonationRepository;
+
+        @Autowired
+        private DonationOutboxRepository appliedOutboxRepository;
+
+        @Autowired
+        private FundingRepository appliedFundingRepository;
+
+        @MockBean
+        private KakaoPayClient kakaoPayClient;
+
+        @MockBean
+        private FundingSummaryService fundingSummaryService;
+
+        @MockBean
+        private NotificationService notificationService;
+
+        @MockBean
+        private CacheService cacheService;
+
+        @MockBean
+        private FundingFeedService fundingFeedService;
+
+        @MockBean
+        private RedisTemplate<String, String> rankingRedisTemplate;
+
+        @MockBean
+        private RedissonClient redissonClient;
+
+        @MockBean
+        private ObjectMapper objectMapper;
+
+        @AfterEach
+        void tearDown() {
+            appliedDonationRepository.deleteAll();
+            appliedOutboxRepository.deleteAll();
+            appliedFundingRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("applyDonation 테스트 - 동시 후원 반영에도 누적 금액, 후원 횟수, 랭킹이 유실되지 않고 목표 달성은 한 번만")
+        void concurrentApplyDonationTest() throws Exception {
+            // given : 목표 금액이 전체 후원 금액의 절반인 진행중 펀딩과 반영 대기 후원들, 랭킹 키는 이미 있음
+            Funding funding = appliedFundingRepository.save(Funding.builder()
+                    .title("title")
+                    .targetAmount(DONATION_COUNT * DONATION_AMOUNT / 2)
+                    .publicFlag(true)
+                    .endDate(LocalDate.now().plusDays(7))
+                    .status(FundingStatus.ACTIVE)
+                    .build());
+            Long fundingId = funding.getId();
+            List<Long> outboxIds = new ArrayList<>();
+            for (int i = 0; i < DONATION_COUNT; i++) {
+                DonationOutbox outbox = DonationOutbox.builder()
+                        .tid("tid" + i)
+                        .fundingId(fundingId)
+                        .sponsorNickname("nickname" + i)
+                        .sponsorComment("comment")
+                        .donationAmount(DONATION_AMOUNT)
+                        .build();
+                outbox.markApproved(DONATION_AMOUNT);
+                outboxIds.add(appliedOutboxRepository.save(outbox).getId());
+            }
+            AtomicLong ranking = new AtomicLong();
+            when(rankingRedisTemplate.hasKey("donationRanking:" + fundingId)).thenReturn(true);
+            when(rankingRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.increment("donationRanking:" + fundingId)).thenAnswer(invocation -> ranking.incrementAndGet());
+
+            // when : 여러 워커 스레드가 동시에 후원을 반영
+            ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<AppliedDonationDto>> results = new ArrayList<>();
+            for (Long outboxId : outboxIds) {
+                results.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return appliedDonationService.applyDonation(outboxId);
+                }));
+            }
+            startLatch.countDown();
+            int targetReachedCount = 0;
+            for (Future<AppliedDonationDto> result : results) {
+                if (result.get(30, TimeUnit.SECONDS).isTargetReached()) {
+                    targetReachedCount++;
+                }
+            }
+            executorService.shutdown();
+
+            // then : 모든 후원이 한 번씩 반영되고, 랭킹은 1부터 빠짐없이 한 번씩, 종료 처리는 한 요청에서만
+            Funding updated = appliedFundingRepository.findById(fundingId).orElseThrow();
+            assertEquals(DONATION_COUNT * DONATION_AMOUNT, updated.getCurrentAmount());
+            assertEquals(DONATION_COUNT, updated.getDonationCount());
+            assertEquals(FundingStatus.FINISHED, updated.getStatus());
+            assertEquals(1, targetReachedCount);
+            List<Integer> rankings = appliedDonationRepository.findAll().stream()
+                    .map(Donation::getDonationRanking)
+                    .sorted()
+                    .toList();
+            assertEquals(IntStream.rangeClosed(1, DONATION_COUNT).boxed().toList(), rankings);
+            assertTrue(appliedOutboxRepository.findAll().stream()
+                    .allMatch(outbox -> outbox.getStatus() == DonationOutboxStatus.DONE));
+        }
+    }
+
+    private DonationInfoResponseDto donation(int ranking) {
+        return new DonationInfoResponseDto("nickname" + ranking, "comment", ranking);
+    }
+}
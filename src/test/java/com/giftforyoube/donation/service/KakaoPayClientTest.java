@@ -0,0 +1,129 @@
+package com.giftforyoube.donation.service;
+
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KakaoPayClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    // 가짜 PG 서버 동작 : 응답 지연 시간, 5xx 응답 여부
+    private volatile long latencyMillis = 0;
+    private volatile boolean failing = false;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private KakaoPayClient kakaoPayClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/online/v1/payment/approve", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"amount\":{\"total\":5000}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(failing ? 500 : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setReadTimeout(2000);
+        kakaoPayClient = new KakaoPayClient(new RestTemplate(requestFactory), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(kakaoPayClient, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(kakaoPayClient, "cid", "TC0ONETIME");
+        ReflectionTestUtils.setField(kakaoPayClient, "secretKey", "secret");
+        ReflectionTestUtils.setField(kakaoPayClient, "maxConcurrentCalls", 2);
+        ReflectionTestUtils.setField(kakaoPayClient, "slowCallMillis", 1000L);
+        ReflectionTestUtils.setField(kakaoPayClient, "openMillis", 200L);
+        kakaoPayClient.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("approve 테스트 - 장애가 이어지면 서킷이 열려 PG 호출 없이 바로 실패하고, half-open 확인 후 복구")
+    void circuitBreakerTest() throws Exception {
+        // given : PG 서버가 5xx 응답
+        failing = true;
+        for (int i = 0; i < 10; i++) {
+            assertThrows(HttpServerErrorException.class, () -> kakaoPayClient.approve("T1234", "pgToken"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, kakaoPayClient.getCircuitBreakerState());
+
+        // when & then : 서킷이 열린 동안에는 PG를 호출하지 않고 PAYMENT_CIRCUIT_OPEN
+        BaseException exception = assertThrows(BaseException.class, () -> kakaoPayClient.approve("T1234", "pgToken"));
+        assertEquals(BaseResponseStatus.PAYMENT_CIRCUIT_OPEN, exception.getStatus());
+        assertEquals(10, requestCount.get());
+
+        // when & then : PG 복구 후 대기 시간이 지나면 half-open 확인 호출이 성공하여 서킷이 닫힘
+        failing = false;
+        Thread.sleep(300);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(5000, kakaoPayClient.approve("T1234", "pgToken").getAmount().getTotal());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, kakaoPayClient.getCircuitBreakerState());
+    }
+
+    @Test
+    @DisplayName("approve 테스트 - PG 지연으로 동시 호출 한도가 차면 나머지 요청은 기다리지 않고 바로 실패")
+    void bulkheadTest() throws Exception {
+        // given : PG 응답이 500ms 지연되고, 두 요청이 한도(2)를 모두 사용 중
+        latencyMillis = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch inFlight = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executorService.submit(() -> {
+                inFlight.countDown();
+                return kakaoPayClient.approve("T1234", "pgToken");
+            });
+        }
+        inFlight.await();
+        while (requestCount.get() < 2) {
+            Thread.sleep(10);
+        }
+
+        // when : 세 번째 요청
+        long start = System.nanoTime();
+        BaseException exception = assertThrows(BaseException.class, () -> kakaoPayClient.approve("T1234", "pgToken"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then : PG 지연과 무관하게 즉시 PAYMENT_BULKHEAD_FULL
+        assertEquals(BaseResponseStatus.PAYMENT_BULKHEAD_FULL, exception.getStatus());
+        assertTrue(elapsedMillis < 200);
+        assertEquals(2, requestCount.get());
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
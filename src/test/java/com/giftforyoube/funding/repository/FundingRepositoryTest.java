@@ -0,0 +1,122 @@
+package com.giftforyoube.funding.repository;
+
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 동시 후원 검증을 위해 각 스레드가 자기 트랜잭션으로 커밋하도록 테스트 트랜잭션을 사용하지 않음
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:funding;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FundingRepositoryTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int DONATION_COUNT = 400;
+    private static final int DONATION_AMOUNT = 1000;
+
+    @Autowired
+    private FundingRepository fundingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        fundingRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("addDonationAmount 테스트 - 동시 후원에도 누적 금액과 후원 횟수가 유실되지 않고, 종료 처리는 한 번만")
+    void concurrentDonationTest() throws Exception {
+        // given : 목표 금액이 전체 후원 금액의 절반인 진행중 펀딩
+        Funding funding = fundingRepository.save(Funding.builder()
+                .title("title")
+                .targetAmount(DONATION_COUNT * DONATION_AMOUNT / 2)
+                .publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(FundingStatus.ACTIVE)
+                .build());
+        Long fundingId = funding.getId();
+
+        // when : 여러 스레드가 동시에 후원 금액을 더하고 목표 달성 시 종료 시도
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < DONATION_COUNT; i++) {
+            results.add(executorService.submit(() -> {
+                startLatch.await();
+                fundingRepository.addDonationAmount(fundingId, DONATION_AMOUNT);
+                return fundingRepository.finishIfTargetReached(fundingId, FundingStatus.ACTIVE, FundingStatus.FINISHED);
+            }));
+        }
+        startLatch.countDown();
+        int finishedCount = 0;
+        for (Future<Integer> result : results) {
+            finishedCount += result.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then : 모든 후원이 반영되고, 목표를 넘긴 요청 중 정확히 하나만 종료 처리
+        Funding updated = fundingRepository.findById(fundingId).orElseThrow();
+        assertEquals(DONATION_COUNT * DONATION_AMOUNT, updated.getCurrentAmount());
+        assertEquals(DONATION_COUNT, updated.getDonationCount());
+        assertEquals(200, updated.getAchievementRate());
+        assertEquals(FundingStatus.FINISHED, updated.getStatus());
+        assertEquals(1, finishedCount);
+    }
+
+    @Test
+    @DisplayName("backfillSortColumns 테스트 - 후원 횟수가 NULL 인 펀딩만 한 번 채움")
+    void backfillSortColumnsOnceTest() {
+        // given : 컬럼 추가 전에 후원받은 펀딩 (후원 기록 없이 금액만 있음, 후원 횟수 NULL) 과 새로 만든 펀딩
+        Funding legacy = fundingRepository.save(Funding.builder()
+                .title("legacy")
+                .targetAmount(10000)
+                .publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(FundingStatus.ACTIVE)
+                .build());
+        Funding created = fundingRepository.save(Funding.builder()
+                .title("created")
+                .targetAmount(10000)
+                .publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(FundingStatus.ACTIVE)
+                .build());
+        jdbcTemplate.update("UPDATE funding SET current_amount = 3000, achievement_rate = 0, donation_count = NULL WHERE id = ?", legacy.getId());
+
+        // when : 서버 시작마다 실행
+        int firstCount = fundingRepository.backfillSortColumns();
+        int secondCount = fundingRepository.backfillSortColumns();
+
+        // then : 처음에만 NULL 인 펀딩 하나를 채우고, 다음 시작부터는 0건 (재구축 없음)
+        assertEquals(1, firstCount);
+        assertEquals(0, secondCount);
+        Funding backfilled = fundingRepository.findById(legacy.getId()).orElseThrow();
+        assertEquals(30, backfilled.getAchievementRate());
+        assertEquals(0, backfilled.getDonationCount());
+        assertEquals(0, fundingRepository.findById(created.getId()).orElseThrow().getDonationCount());
+    }
+}
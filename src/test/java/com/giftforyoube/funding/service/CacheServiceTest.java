@@ -0,0 +1,380 @@
+package com.giftforyoube.funding.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftforyoube.funding.dto.FundingResponseDto;
+import com.giftforyoube.global.cache.JacksonCacheCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> binaryValueOperations;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic topic;
+
+    @Mock
+    private RLock lock;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 타입(RedisTemplate)의 mock 이 두 개라 직접 생성, 코덱은 검증이 쉬운 JSON 사용
+        cacheService = new CacheService(redisTemplate, binaryRedisTemplate, objectMapper,
+                new JacksonCacheCodec(objectMapper), meterRegistry, redissonClient);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(binaryRedisTemplate.opsForValue()).thenReturn(binaryValueOperations);
+        lenient().when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+    }
+
+    @Test
+    @DisplayName("buildFundingCacheKey 테스트 - 현재 네임스페이스 버전이 키에 포함")
+    void buildFundingCacheKeyTest() {
+        // given : 현재 펀딩 캐시 버전이 3
+        when(valueOperations.get("fundingCacheVersion")).thenReturn("3");
+
+        // when : 상세 페이지 캐시 키 생성
+        String cacheKey = cacheService.buildFundingCacheKey("fundingDetail", "15");
+
+        // then : 버전이 포함된 키 반환
+        assertEquals("fundingDetail:v3:15", cacheKey);
+    }
+
+    @Test
+    @DisplayName("clearFundingCaches 테스트 - KEYS 스캔 없이 버전만 증가")
+    void clearFundingCachesTest() {
+        // given : 키스페이스 크기와 무관하게 버전 증가 한 번만 수행되어야 함
+        when(valueOperations.increment("fundingCacheVersion")).thenReturn(4L);
+
+        // when : 캐시 무효화
+        cacheService.clearFundingCaches();
+
+        // then : INCR 한 번, KEYS / DEL 은 호출되지 않음
+        verify(valueOperations, times(1)).increment("fundingCacheVersion");
+        verify(redisTemplate, never()).keys(anyString());
+        verify(redisTemplate, never()).delete(anyString());
+        // then : 다른 노드의 L1 캐시 전체 무효화 메시지 발행
+        verify(topic, times(1)).publish("*");
+    }
+
+    @Test
+    @DisplayName("evictFunding 테스트 - 해당 펀딩이 포함된 캐시만 삭제")
+    void evictFundingTest() {
+        // given : 펀딩 15가 두 개의 목록 페이지에 캐시되어 있음
+        when(valueOperations.get("fundingCacheVersion")).thenReturn("2");
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members("fundingPages:v2:15"))
+                .thenReturn(Set.of("allFundings:v2:0:12:createdAt:desc", "activeFundings:v2:0:12:createdAt:desc"));
+
+        // when : 펀딩 15에 대한 캐시 무효화
+        cacheService.evictFunding(15L, 7L);
+
+        // then : 상세, 내 펀딩, 역인덱스, 해당 목록 페이지만 삭제되고 버전은 그대로 (통계는 짧은 TTL로 갱신)
+        verify(redisTemplate).delete(argThat((List<String> keys) -> keys.size() == 5
+                && keys.containsAll(List.of("fundingDetail:v2:15", "MyFundingInfo:v2:7",
+                "fundingPages:v2:15", "allFundings:v2:0:12:createdAt:desc", "activeFundings:v2:0:12:createdAt:desc"))));
+        verify(valueOperations, never()).increment(anyString());
+        verify(topic, times(1)).publish(anyString());
+    }
+
+    @Test
+    @DisplayName("getFunding 테스트 - L1 / L2 hit / miss 카운터 기록")
+    void cacheHitRatioMetricTest() {
+        // given : Redis(L2)에만 펀딩 상세 캐시 존재
+        when(binaryValueOperations.get("fundingDetail:v0:1"))
+                .thenReturn(("{\"value\":{\"id\":1,\"title\":\"title\"},\"delta\":0,\"expiresAt\":" + Long.MAX_VALUE + "}")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        // when : 같은 캐시를 두 번 조회
+        cacheService.getFunding("fundingDetail:v0:1", () -> fail("캐시 hit 시 loader는 실행되지 않아야 함"));
+        cacheService.getFunding("fundingDetail:v0:1", () -> fail("캐시 hit 시 loader는 실행되지 않아야 함"));
+
+        // then : 첫 조회는 L1 miss -> L2 hit, 두 번째 조회는 Redis 왕복 없이 L1 hit
+        assertEquals(1.0, meterRegistry.get("funding.cache.requests")
+                .tags("cache", "fundingDetail", "tier", "l1", "result", "miss").counter().count());
+        assertEquals(1.0, meterRegistry.get("funding.cache.requests")
+                .tags("cache", "fundingDetail", "tier", "l2", "result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("funding.cache.requests")
+                .tags("cache", "fundingDetail", "tier", "l1", "result", "hit").counter().count());
+        verify(binaryValueOperations, times(1)).get("fundingDetail:v0:1");
+    }
+
+    @Test
+    @DisplayName("getFundingList 테스트 - ID 목록 캐시와 펀딩별 캐시(MGET)로 목록 구성")
+    void normalizedFundingListTest() {
+        // given : 목록 캐시에는 ID 목록만, 펀딩별 캐시에는 1, 3번만 존재
+        when(binaryValueOperations.get("activeFundings:v0:0:3:createdAt:desc"))
+                .thenReturn(("{\"value\":{\"ids\":[3,2,1],\"page\":0,\"size\":3,\"last\":true,\"totalElements\":3},"
+                        + "\"delta\":0,\"expiresAt\":" + Long.MAX_VALUE + "}").getBytes(StandardCharsets.UTF_8));
+        when(binaryValueOperations.multiGet(List.of("fundingDetail:v0:3", "fundingDetail:v0:2", "fundingDetail:v0:1")))
+                .thenReturn(Arrays.asList(entityEntry(3L), null, entityEntry(1L)));
+        List<List<Long>> loadedIds = new ArrayList<>();
+
+        // when : 진행중인 펀딩 목록 조회
+        Slice<FundingResponseDto> fundings = cacheService.getFundingList("activeFundings:v0:0:3:createdAt:desc",
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "createdAt")),
+                () -> fail("목록 캐시 hit 시 loader는 실행되지 않아야 함"),
+                ids -> {
+                    loadedIds.add(ids);
+                    return List.of(FundingResponseDto.builder().id(2L).title("title").endDate(LocalDate.now()).build());
+                });
+
+        // then : 캐시에 없는 2번만 DB에서 조회하고, ID 목록 순서대로 반환
+        assertEquals(List.of(List.of(2L)), loadedIds);
+        assertEquals(List.of(3L, 2L, 1L), fundings.getContent().stream().map(FundingResponseDto::getId).toList());
+        verify(binaryValueOperations).set(eq("fundingDetail:v0:2"), any(byte[].class), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("getFundingList 테스트 - 목록 조회로 채운 펀딩별 캐시에도 조회 소요 시간(delta)을 기록하여 XFetch 대상이 됨")
+    void pageLoaderDeltaTest() throws Exception {
+        // given : 목록 / 펀딩별 캐시 모두 없음, 분산 락은 항상 획득, 50ms 걸리는 목록 조회
+        Map<String, byte[]> redis = new ConcurrentHashMap<>();
+        when(binaryValueOperations.get(anyString())).thenAnswer(i -> redis.get(i.<String>getArgument(0)));
+        doAnswer(i -> redis.put(i.getArgument(0), i.getArgument(1)))
+                .when(binaryValueOperations).set(anyString(), any(byte[].class), any(Duration.class));
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((String) null));
+        Supplier<Slice<FundingResponseDto>> loader = () -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new SliceImpl<>(List.of(FundingResponseDto.builder().id(1L).title("title").endDate(LocalDate.now()).build()),
+                    PageRequest.of(0, 1), false);
+        };
+
+        // when : 진행중인 펀딩 목록 조회 (캐시 미스)
+        cacheService.getFundingList("activeFundings:v0:0:1:createdAt:desc",
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt")), loader, ids -> List.of());
+
+        // then : 목록과 함께 저장된 펀딩 1의 캐시 delta 가 0이 아닌 실제 조회 시간
+        JsonNode detail = objectMapper.readTree(redis.get("fundingDetail:v0:1"));
+        assertTrue(detail.get("delta").asLong() >= 50);
+    }
+
+    @Test
+    @DisplayName("getFunding 테스트 - 먼저 실행한 조회가 락 대기 시간 안에 끝나지 않으면 기다리지 않고 직접 조회")
+    void singleFlightTimeoutTest() throws Exception {
+        // given : Redis 를 Map 으로 대체, 분산 락은 항상 획득, 첫 번째 DB 조회는 풀어줄 때까지 끝나지 않음
+        Map<String, byte[]> redis = new ConcurrentHashMap<>();
+        when(binaryValueOperations.get(anyString())).thenAnswer(i -> redis.get(i.<String>getArgument(0)));
+        doAnswer(i -> redis.put(i.getArgument(0), i.getArgument(1)))
+                .when(binaryValueOperations).set(anyString(), any(byte[].class), any(Duration.class));
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        CountDownLatch firstQueryStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstQuery = new CountDownLatch(1);
+        AtomicInteger dbQueryCount = new AtomicInteger();
+        Supplier<FundingResponseDto> loader = () -> {
+            if (dbQueryCount.incrementAndGet() == 1) {
+                firstQueryStarted.countDown();
+                try {
+                    releaseFirstQuery.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return FundingResponseDto.builder().id(1L).title("title").endDate(LocalDate.now().plusDays(3)).build();
+        };
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<FundingResponseDto> first = executorService.submit(() -> cacheService.getFunding("fundingDetail:v0:1", loader));
+        assertTrue(firstQueryStarted.await(5, TimeUnit.SECONDS));
+
+        // when : 첫 번째 조회가 끝나지 않은 동안 같은 키 조회
+        long start = System.currentTimeMillis();
+        FundingResponseDto second = cacheService.getFunding("fundingDetail:v0:1", loader);
+        long waited = System.currentTimeMillis() - start;
+        releaseFirstQuery.countDown();
+
+        // then : 락 대기 시간(3초) 정도만 기다린 뒤 직접 조회하여 응답, 첫 번째 조회도 정상 완료
+        assertEquals(1L, second.getId());
+        assertTrue(waited >= 3000 && waited < 5000);
+        assertEquals(2, dbQueryCount.get());
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).getId());
+        assertEquals(1.0, meterRegistry.get("funding.cache.loads").tags("cache", "fundingDetail", "reason", "timeout").counter().count());
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("getFundingList 테스트 - 조회 중에 펀딩이 evictFunding 되면 이전 순서의 목록 페이지와 펀딩별 캐시를 저장하지 않음")
+    void evictDuringPageLoadTest() throws Exception {
+        // given : Redis 를 Map 으로 대체, 분산 락은 항상 획득, 달성률 순 목록 (역인덱스 등록 대상)
+        Map<String, byte[]> redis = givenPageLoadRedis();
+        String pageKey = "allFundings:v0:0:1:achievementRate:desc";
+
+        // when : DB 조회 직후 (반영 전 값을 읽은 뒤) 후원으로 펀딩 1이 evictFunding 됨
+        cacheService.getFundingList(pageKey, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "achievementRate")), () -> {
+            Slice<FundingResponseDto> stale = new SliceImpl<>(List.of(FundingResponseDto.builder().id(1L).title("title").endDate(LocalDate.now()).build()),
+                    PageRequest.of(0, 1), false);
+            cacheService.evictFunding(1L, 7L);
+            return stale;
+        }, ids -> List.of(FundingResponseDto.builder().id(1L).title("title").endDate(LocalDate.now()).build()));
+
+        // then : 목록 페이지는 저장 / 역인덱스 등록되지 않고, 펀딩 1은 목록 조회 값 대신 다시 조회한 값으로 채워짐
+        assertFalse(redis.containsKey(pageKey));
+        verify(setOperations, never()).add(anyString(), any(String[].class));
+        assertEquals(1.0, meterRegistry.get("funding.cache.discarded").tags("cache", "allFundings").counter().count());
+    }
+
+    @Test
+    @DisplayName("getFundingList 테스트 - 목록 페이지 저장과 evictFunding 이 엇갈리면 저장 후 다시 확인하여 삭제")
+    void evictAfterPageSaveTest() throws Exception {
+        // given : Redis 를 Map 으로 대체, 분산 락은 항상 획득, 역인덱스 등록 시점에 펀딩 1이 evictFunding 됨
+        givenPageLoadRedis();
+        String pageKey = "allFundings:v0:0:1:achievementRate:desc";
+        when(setOperations.add(eq("fundingPages:v0:1"), eq(pageKey))).thenAnswer(i -> {
+            cacheService.evictFunding(1L, 7L);
+            return 1L;
+        });
+
+        // when : 달성률 순 목록 조회
+        cacheService.getFundingList(pageKey, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "achievementRate")),
+                () -> new SliceImpl<>(List.of(FundingResponseDto.builder().id(1L).title("title").endDate(LocalDate.now()).build()),
+                        PageRequest.of(0, 1), false),
+                ids -> List.of());
+
+        // then : 저장된 목록 페이지를 다시 확인하여 L2 에서 삭제
+        verify(redisTemplate).delete(List.of(pageKey));
+    }
+
+    // 펀딩 캐시(바이트) / 삭제 시각(문자열)을 Map 으로 대체하고 분산 락은 항상 획득
+    private Map<String, byte[]> givenPageLoadRedis() throws InterruptedException {
+        Map<String, byte[]> redis = new ConcurrentHashMap<>();
+        Map<String, String> strings = new ConcurrentHashMap<>();
+        when(binaryValueOperations.get(anyString())).thenAnswer(i -> redis.get(i.<String>getArgument(0)));
+        lenient().when(binaryValueOperations.multiGet(anyList())).thenAnswer(i -> i.<List<String>>getArgument(0).stream()
+                .map(redis::get).toList());
+        doAnswer(i -> redis.put(i.getArgument(0), i.getArgument(1)))
+                .when(binaryValueOperations).set(anyString(), any(byte[].class), any(Duration.class));
+        when(valueOperations.get(anyString())).thenAnswer(i -> strings.get(i.<String>getArgument(0)));
+        doAnswer(i -> strings.put(i.getArgument(0), i.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(valueOperations.multiGet(anyList())).thenAnswer(i -> i.<List<String>>getArgument(0).stream()
+                .map(strings::get).toList());
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        lenient().when(setOperations.members(anyString())).thenReturn(Set.of());
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        return redis;
+    }
+
+    private byte[] entityEntry(Long id) {
+        return ("{\"value\":{\"id\":" + id + ",\"title\":\"title\"},\"delta\":0,\"expiresAt\":" + Long.MAX_VALUE + "}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("getFunding 테스트 - 동시 캐시 미스(thundering herd) 시 DB 조회는 한 번")
+    void singleFlightTest() throws Exception {
+        // given : Redis 를 Map 으로 대체하고, 분산 락은 항상 획득
+        Map<String, byte[]> redis = new ConcurrentHashMap<>();
+        when(binaryValueOperations.get(anyString())).thenAnswer(i -> redis.get(i.<String>getArgument(0)));
+        doAnswer(i -> redis.put(i.getArgument(0), i.getArgument(1)))
+                .when(binaryValueOperations).set(anyString(), any(byte[].class), any(Duration.class));
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        // DB 조회를 흉내내는 느린 loader
+        AtomicInteger dbQueryCount = new AtomicInteger();
+        Supplier<FundingResponseDto> loader = () -> {
+            dbQueryCount.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return FundingResponseDto.builder().id(1L).title("title").endDate(LocalDate.now().plusDays(3)).build();
+        };
+
+        // when : 50개의 요청이 동시에 같은 키를 조회
+        int requestCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<FundingResponseDto>> results = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            results.add(executorService.submit(() -> {
+                startLatch.await();
+                return cacheService.getFunding("fundingDetail:v0:1", loader);
+            }));
+        }
+        startLatch.countDown();
+        for (Future<FundingResponseDto> result : results) {
+            assertEquals(1L, result.get(5, TimeUnit.SECONDS).getId());
+        }
+        executorService.shutdown();
+
+        // then : 모든 요청이 같은 결과를 받고, DB 조회는 한 번만 발생
+        assertEquals(1, dbQueryCount.get());
+    }
+}
@@ -0,0 +1,195 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.funding.dto.FundingIdPageCache;
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.funding.repository.FundingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FundingFeedServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private FundingRepository fundingRepository;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TaskExecutor taskExecutor;
+
+    @InjectMocks
+    private FundingFeedService fundingFeedService;
+
+    @Test
+    @DisplayName("getPage 테스트 - 깊은 페이지도 OFFSET 쿼리 없이 ZREVRANGE로 조회")
+    void getPageTest() {
+        // given : 인덱스 준비 완료, 진행중 펀딩 마감일 순 목록의 3페이지(크기 2) 요청
+        when(redisTemplate.hasKey("fundingFeed:ready:v2")).thenReturn(true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange("fundingFeed:ACTIVE:endDate", 4, 6))
+                .thenReturn(new LinkedHashSet<>(List.of("9", "7", "5")));
+        when(zSetOperations.zCard("fundingFeed:ACTIVE:endDate")).thenReturn(10L);
+
+        // when : 목록 조회
+        FundingIdPageCache page = fundingFeedService.getPage(FundingStatus.ACTIVE, "endDate", "desc", 2, 2);
+
+        // then : 요청한 개수만큼 순서대로 반환하고, 한 건 더 있으므로 마지막 페이지가 아님
+        assertEquals(List.of(9L, 7L), page.getIds());
+        assertFalse(page.isLast());
+        assertEquals(10L, page.getTotalElements());
+        verifyNoInteractions(fundingRepository);
+    }
+
+    @Test
+    @DisplayName("getPage 테스트 - 인덱스가 준비되지 않았거나 유실되었거나 지원하지 않는 정렬이면 null, 유실 시 재구축 요청은 한 번만")
+    void getPageFallbackTest() {
+        // given : 준비 표시는 남아 있지만 목록 키가 유실됨 (처음 요청만 재구축 요청 획득)
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(zSetOperations.zCard("fundingFeed:all:createdAt")).thenReturn(0L);
+        when(valueOperations.setIfAbsent(eq("fundingFeed:rebuildRequested"), eq("true"), any(Duration.class)))
+                .thenReturn(true, false);
+
+        // when : 같은 목록을 두 번 조회, 지원하지 않는 정렬로 조회
+        FundingIdPageCache first = fundingFeedService.getPage(null, "createdAt", "desc", 0, 12);
+        FundingIdPageCache second = fundingFeedService.getPage(null, "createdAt", "desc", 0, 12);
+        FundingIdPageCache unsupported = fundingFeedService.getPage(null, "title", "desc", 0, 12);
+
+        // then : 모두 DB 조회로 대체하도록 null 반환, 빈 페이지를 반환하지 않고 재구축은 한 번만 실행
+        assertNull(first);
+        assertNull(second);
+        assertNull(unsupported);
+        verify(taskExecutor, times(1)).execute(any(Runnable.class));
+        verify(zSetOperations, never()).reverseRange(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("indexAll 테스트 - 재구축 중이면 재구축용 임시 키에도 반영하여 교체 시 유실되지 않음")
+    @SuppressWarnings("unchecked")
+    void indexAllDuringRebuildTest() {
+        // given : 다른 서버에서 재구축 중, 파이프라인은 바로 실행
+        when(redisTemplate.hasKey("fundingFeed:rebuilding")).thenReturn(true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback<Object>) invocation.getArgument(0)).execute(redisTemplate);
+            return List.of();
+        });
+        Funding funding = Funding.builder()
+                .title("title")
+                .targetAmount(10000)
+                .publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(FundingStatus.ACTIVE)
+                .build();
+        funding.setId(1L);
+
+        // when : 펀딩 인덱스 갱신
+        fundingFeedService.index(funding);
+
+        // then : 기존 키와 임시 키 모두에 추가하고, 속하지 않는 목록은 양쪽에서 제거
+        verify(zSetOperations).add(eq("fundingFeed:ACTIVE:endDate"), eq("1"), anyDouble());
+        verify(zSetOperations).add(eq("fundingFeed:ACTIVE:endDate:rebuild"), eq("1"), anyDouble());
+        verify(zSetOperations).remove("fundingFeed:FINISHED:endDate", "1");
+        verify(zSetOperations).remove("fundingFeed:FINISHED:endDate:rebuild", "1");
+    }
+
+    @Test
+    @DisplayName("indexAll 테스트 - 생성 시각이 같은 펀딩도 최신순 점수는 ID 순으로 겹치지 않음")
+    @SuppressWarnings("unchecked")
+    void createdAtScoreTest() {
+        // given : 같은 시각에 만들어진 펀딩 9, 10 (문자열로는 "10" < "9"), 파이프라인은 바로 실행
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback<Object>) invocation.getArgument(0)).execute(redisTemplate);
+            return List.of();
+        });
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        Funding older = Funding.builder().title("title").targetAmount(10000).publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7)).status(FundingStatus.ACTIVE).build();
+        older.setId(9L);
+        ReflectionTestUtils.setField(older, "createdAt", createdAt);
+        Funding newer = Funding.builder().title("title").targetAmount(10000).publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7)).status(FundingStatus.ACTIVE).build();
+        newer.setId(10L);
+        ReflectionTestUtils.setField(newer, "createdAt", createdAt);
+
+        // when : 두 펀딩 인덱스 갱신
+        fundingFeedService.indexAll(List.of(older, newer));
+
+        // then : 최신순 점수는 ID, 나중에 만든 펀딩이 더 큰 점수
+        verify(zSetOperations).add("fundingFeed:all:createdAt", "9", 9.0);
+        verify(zSetOperations).add("fundingFeed:all:createdAt", "10", 10.0);
+    }
+
+    @Test
+    @DisplayName("indexDonation 테스트 - 종료되지 않은 후원은 이미 속한 목록의 달성률 / 후원 횟수 점수를 커질 때만 갱신")
+    void indexDonationTest() {
+        // given : 파이프라인은 바로 실행, 진행중 펀딩
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisZSetCommands zSetCommands = mock(RedisZSetCommands.class);
+        when(connection.zSetCommands()).thenReturn(zSetCommands);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        Funding funding = Funding.builder()
+                .title("title")
+                .targetAmount(10000)
+                .currentAmount(5000)
+                .publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(FundingStatus.ACTIVE)
+                .build();
+        funding.setId(1L);
+
+        // when : 후원 반영 (종료되지 않음)
+        fundingFeedService.indexDonation(funding, false);
+
+        // then : 달성률 / 후원 횟수 목록 (3개 범위 x 2개 기준) 만 ZADD XX GT 로 갱신하고, 목록 이동(추가 / 제거)은 하지 않음
+        verify(zSetCommands, times(6)).zAdd(any(byte[].class), anyDouble(), any(byte[].class),
+                argThat((RedisZSetCommands.ZAddArgs args) -> args.contains(RedisZSetCommands.ZAddArgs.Flag.XX)
+                        && args.contains(RedisZSetCommands.ZAddArgs.Flag.GT)));
+        verify(zSetCommands, times(6)).zAdd(any(byte[].class), anyDouble(), any(byte[].class), any(RedisZSetCommands.ZAddArgs.class));
+        verify(zSetCommands, never()).zRem(any(byte[].class), any(byte[][].class));
+    }
+}
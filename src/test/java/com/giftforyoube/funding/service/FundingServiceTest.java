@@ -0,0 +1,155 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.funding.dto.FundingCursor;
+import com.giftforyoube.funding.dto.FundingCursorResponseDto;
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.funding.repository.FundingRepository;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FundingServiceTest {
+
+    @Mock
+    private FundingRepository fundingRepository;
+
+    @Mock
+    private FundingFeedService fundingFeedService;
+
+    @Mock
+    private CacheService cacheService;
+
+    @InjectMocks
+    private FundingService fundingService;
+
+    @Test
+    @DisplayName("getActiveFundingsByCursor 테스트 - COUNT 없이 seek 조회 후 다음 커서 반환")
+    void getActiveFundingsByCursorTest() {
+        // given : 이전 페이지의 마지막 펀딩 위치와, 요청 크기(2)보다 한 건 더 조회된 결과
+        LocalDateTime createdAt = LocalDateTime.of(2024, 2, 20, 12, 0);
+        String cursor = new FundingCursor(createdAt, 10L).encode();
+        when(fundingRepository.findByStatusBeforeCursor(eq(FundingStatus.ACTIVE), eq(createdAt), eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(funding(9L, createdAt), funding(8L, createdAt.minusHours(1)), funding(7L, createdAt.minusHours(2))));
+
+        // when : 커서 다음 페이지 조회
+        FundingCursorResponseDto response = fundingService.getActiveFundingsByCursor(cursor, 2, "createdAt", "desc");
+
+        // then : 요청 크기만큼 반환하고, 마지막 펀딩(8번) 위치가 다음 커서
+        assertEquals(List.of(9L, 8L), response.getContent().stream().map(f -> f.getId()).toList());
+        assertFalse(response.isLast());
+        FundingCursor next = FundingCursor.decode(response.getNextCursor(), false);
+        assertEquals(8L, next.getId());
+        assertEquals(createdAt.minusHours(1), next.getCreatedAt());
+        // then : 페이지 깊이와 무관하게 OFFSET / COUNT 쿼리를 사용하지 않음
+        verify(fundingRepository, never()).findByStatusAndPublicFlagTrue(any(), any());
+        verify(fundingRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("getAllFundingsByCursor 테스트 - 잘못된 커서는 예외")
+    void invalidCursorTest() {
+        // when & then
+        assertThrows(BaseException.class, () -> fundingService.getAllFundingsByCursor("not-a-cursor", 12, "createdAt", "desc"));
+        verifyNoInteractions(fundingRepository);
+    }
+
+    @Test
+    @DisplayName("getAllFundingsByCursor 테스트 - 페이지 크기는 1 ~ 100 으로 제한")
+    void cursorPageSizeTest() {
+        // given : 첫 페이지 조회, 빈 결과
+        when(fundingRepository.findPublicBeforeCursor(any(), any(), any(Pageable.class))).thenReturn(List.of());
+
+        // when : 음수 / 너무 큰 크기로 조회
+        fundingService.getAllFundingsByCursor("", -5, "createdAt", "desc");
+        fundingService.getAllFundingsByCursor("", 100000, "createdAt", "desc");
+
+        // then : 예외 없이 최소 1건 / 최대 100건 (+ 다음 페이지 확인용 1건) 으로 조회
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(fundingRepository, times(2)).findPublicBeforeCursor(any(), any(), pageableCaptor.capture());
+        assertEquals(List.of(2, 101), pageableCaptor.getAllValues().stream().map(Pageable::getPageSize).toList());
+    }
+
+    @Test
+    @DisplayName("finishFunding 테스트 - 펀딩 목록 인덱스는 커밋 이후에 갱신")
+    void finishFundingIndexAfterCommitTest() {
+        // given : 트랜잭션 동기화가 활성화된 상태 (@Transactional 안과 동일)
+        Funding funding = funding(1L, LocalDateTime.now());
+        User owner = mock(User.class);
+        when(owner.getId()).thenReturn(7L);
+        funding.setUser(owner);
+        when(fundingRepository.findById(1L)).thenReturn(Optional.of(funding));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when : 펀딩 종료
+            fundingService.finishFunding(1L, owner);
+
+            // then : 커밋 전에는 인덱스를 건드리지 않고, 커밋 후에 한 번 갱신
+            verify(fundingFeedService, never()).index(any());
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            verify(fundingFeedService, times(1)).index(funding);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("finishFunding 테스트 - 롤백되면 펀딩 목록 인덱스를 갱신하지 않음")
+    void finishFundingIndexRollbackTest() {
+        // given : 트랜잭션 동기화가 활성화된 상태
+        Funding funding = funding(1L, LocalDateTime.now());
+        User owner = mock(User.class);
+        when(owner.getId()).thenReturn(7L);
+        funding.setUser(owner);
+        when(fundingRepository.findById(1L)).thenReturn(Optional.of(funding));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when : 펀딩 종료 후 롤백
+            fundingService.finishFunding(1L, owner);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then : 인덱스 갱신 없음
+            verify(fundingFeedService, never()).index(any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Funding funding(Long id, LocalDateTime createdAt) {
+        Funding funding = Funding.builder()
+                .title("title")
+                .targetAmount(10000)
+                .publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(FundingStatus.ACTIVE)
+                .build();
+        funding.setId(id);
+        funding.setUser(mock(User.class));
+        ReflectionTestUtils.setField(funding, "createdAt", createdAt);
+        return funding;
+    }
+}
@@ -0,0 +1,119 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.funding.dto.FundingSummaryResponseDto;
+import com.giftforyoube.funding.entity.FundingSummary;
+import com.giftforyoube.funding.repository.FundingSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FundingSummaryServiceTest {
+
+    @Mock
+    private FundingSummaryRepository fundingSummaryRepository;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private FundingSummaryService fundingSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fundingSummaryService, "shardCount", 4);
+    }
+
+    @Test
+    @DisplayName("addDonation 테스트 - 샤드 행이 없으면 생성 후 다시 누적")
+    void addDonationTest() {
+        // given : 선택된 샤드 행이 아직 없음
+        when(fundingSummaryRepository.addDonations(anyInt(), eq(1L), eq(5000L))).thenReturn(0, 1);
+
+        // when : 후원 통계 누적
+        fundingSummaryService.addDonation(5000);
+
+        // then : 샤드 행을 만들고 같은 샤드에 한 번 더 원자적으로 누적, 단일 행 읽기-쓰기는 하지 않음
+        verify(fundingSummaryRepository, times(1)).saveAndFlush(any(FundingSummary.class));
+        verify(fundingSummaryRepository, times(2)).addDonations(anyInt(), eq(1L), eq(5000L));
+        verify(fundingSummaryRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("getSummary / compact 테스트 - 샤드 합산 값으로 조회하고, 압축 시 0번 샤드에 합침")
+    void compactTest() {
+        // given : 샤드 도입 전 통계 행, 0번 / 2번 샤드, 줄어든 샤드 수 밖의 7번 샤드
+        FundingSummary legacy = summary(null, 10, 2, 100000);
+        FundingSummary shard0 = summary(0, 3, 0, 30000);
+        FundingSummary shard2 = summary(2, 5, 1, 50000);
+        FundingSummary shard7 = summary(7, 1, 0, 10000);
+        List<FundingSummary> summaries = List.of(legacy, shard0, shard2, shard7);
+        when(fundingSummaryRepository.existsByShard(0)).thenReturn(true);
+        when(fundingSummaryRepository.findAll()).thenReturn(summaries);
+        when(fundingSummaryRepository.findAllForUpdate()).thenReturn(summaries);
+
+        // when : 합산 조회 후 압축
+        FundingSummaryResponseDto before = fundingSummaryService.getSummary();
+        fundingSummaryService.compact();
+
+        // then : 합산 값은 19 / 3 / 190000, 압축 후 0번 샤드가 전체 값을 가지고 나머지는 초기화 또는 삭제
+        assertEquals(19, before.getTotalDonationsCount());
+        assertEquals(3, before.getSuccessfulFundingsCount());
+        assertEquals(190000, before.getTotalFundingAmount());
+        assertEquals(19, shard0.getTotalDonationsCount());
+        assertEquals(3, shard0.getSuccessfulFundingsCount());
+        assertEquals(190000, shard0.getTotalFundingAmount());
+        assertEquals(0, shard2.getTotalDonationsCount());
+        assertEquals(0, shard2.getTotalFundingAmount());
+        verify(fundingSummaryRepository).delete(legacy);
+        verify(fundingSummaryRepository).delete(shard7);
+        verify(fundingSummaryRepository, never()).delete(shard2);
+    }
+
+    @Test
+    @DisplayName("compact 테스트 - 0번 샤드가 없으면 트랜잭션 밖에서 만들고, 동시에 만들어져 충돌해도 다시 읽어 압축")
+    void compactWithoutShardZeroTest() {
+        // given : 0번 샤드가 없고, 생성 시도 중 누적 요청이 먼저 만들어 중복 예외 발생
+        FundingSummary concurrentShard0 = summary(0, 1, 0, 1000);
+        FundingSummary shard3 = summary(3, 2, 1, 20000);
+        when(fundingSummaryRepository.existsByShard(0)).thenReturn(false);
+        when(fundingSummaryRepository.saveAndFlush(any(FundingSummary.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate shard"));
+        when(fundingSummaryRepository.findAllForUpdate()).thenReturn(List.of(concurrentShard0, shard3));
+
+        // when : 압축
+        fundingSummaryService.compact();
+
+        // then : 중복 예외로 압축이 취소되지 않고, 다시 읽은 0번 샤드에 합쳐짐
+        assertEquals(3, concurrentShard0.getTotalDonationsCount());
+        assertEquals(1, concurrentShard0.getSuccessfulFundingsCount());
+        assertEquals(21000, concurrentShard0.getTotalFundingAmount());
+        assertEquals(0, shard3.getTotalDonationsCount());
+        verify(fundingSummaryRepository, never()).save(any(FundingSummary.class));
+    }
+
+    private FundingSummary summary(Integer shard, long donationsCount, long successfulCount, long amount) {
+        FundingSummary summary = new FundingSummary(shard);
+        summary.setTotalDonationsCount(donationsCount);
+        summary.setSuccessfulFundingsCount(successfulCount);
+        summary.setTotalFundingAmount(amount);
+        return summary;
+    }
+}
@@ -0,0 +1,87 @@
+package com.giftforyoube.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.giftforyoube.funding.dto.FundingCacheEntry;
+import com.giftforyoube.funding.dto.FundingResponseDto;
+import com.giftforyoube.funding.entity.FundingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheCodecTest {
+
+    private final ObjectMapper jsonMapper = new ObjectMapper().findAndRegisterModules();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+
+    private final JavaType pageType = jsonMapper.getTypeFactory().constructParametricType(FundingCacheEntry.class,
+            jsonMapper.getTypeFactory().constructCollectionType(List.class, FundingResponseDto.class));
+
+    @Test
+    @DisplayName("Smile + Deflate 코덱 테스트 - 목록 캐시 왕복 및 JSON 대비 크기 감소")
+    void smileCompressedRoundTripTest() {
+        // given : 메인 페이지 크기(12건)의 펀딩 목록 캐시 값
+        FundingCacheEntry<List<FundingResponseDto>> entry = new FundingCacheEntry<>(fundingPage(12), 35, 1_700_000_000_000L);
+        CacheCodec jsonCodec = new JacksonCacheCodec(jsonMapper);
+        CacheCodec smileCodec = new CompressingCacheCodec(new JacksonCacheCodec(smileMapper), 1024);
+
+        // when : 각 코덱으로 직렬화 후 Smile 코덱으로 역직렬화
+        byte[] json = jsonCodec.encode(entry);
+        byte[] compact = smileCodec.encode(entry);
+        FundingCacheEntry<List<FundingResponseDto>> decoded = smileCodec.decode(compact, pageType);
+
+        // then : 값은 그대로이고 저장 크기는 JSON 의 절반 이하
+        assertEquals(12, decoded.getValue().size());
+        assertEquals(entry.getValue().get(11).getTitle(), decoded.getValue().get(11).getTitle());
+        assertEquals(entry.getValue().get(11).getEndDate(), decoded.getValue().get(11).getEndDate());
+        assertEquals(entry.getExpiresAt(), decoded.getExpiresAt());
+        assertTrue(compact.length * 2 < json.length, "json=" + json.length + ", compact=" + compact.length);
+    }
+
+    @Test
+    @DisplayName("CompressingCacheCodec 테스트 - threshold 미만 값은 압축하지 않음")
+    void belowThresholdTest() {
+        // given : threshold 보다 작은 상세 캐시 값
+        FundingCacheEntry<List<FundingResponseDto>> entry = new FundingCacheEntry<>(fundingPage(1), 5, 1_700_000_000_000L);
+        CacheCodec codec = new CompressingCacheCodec(new JacksonCacheCodec(jsonMapper), 4096);
+
+        // when : 직렬화
+        byte[] encoded = codec.encode(entry);
+
+        // then : 비압축 헤더와 함께 저장되고 그대로 읽힘
+        assertEquals(0, encoded[0]);
+        FundingCacheEntry<List<FundingResponseDto>> decoded = codec.decode(encoded, pageType);
+        assertEquals(1L, decoded.getValue().get(0).getId());
+    }
+
+    private List<FundingResponseDto> fundingPage(int size) {
+        List<FundingResponseDto> fundings = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            fundings.add(FundingResponseDto.builder()
+                    .id(id)
+                    .itemLink("https://www.example.com/products/" + id)
+                    .itemImage("https://image.example.com/products/" + id + "/main.jpg")
+                    .itemName("생일 선물 상품 " + id)
+                    .title("친구의 생일 선물 펀딩 " + id)
+                    .content("함께 선물을 준비해요!")
+                    .currentAmount(10000 * (int) id)
+                    .targetAmount(100000)
+                    .publicFlag(true)
+                    .showName("펀딩 주인")
+                    .endDate(LocalDate.now().plusDays(id))
+                    .status(FundingStatus.ACTIVE)
+                    .ownerId(id)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return fundings;
+    }
+}
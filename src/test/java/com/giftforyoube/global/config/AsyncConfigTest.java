@@ -0,0 +1,55 @@
+package com.giftforyoube.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncConfigTest {
+
+    @Test
+    @DisplayName("boundedExecutor 테스트 - 풀과 대기열이 가득 차면 거부하고 대기열 / 거부 / 실행 시간 지표 기록")
+    void boundedExecutorTest() throws Exception {
+        // given : 스레드 1개, 대기열 1개인 스레드 풀
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ThreadPoolTaskExecutor executor = AsyncConfig.boundedExecutor("test", 1, 1, 1, false, meterRegistry);
+        executor.initialize();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when : 실행 중 작업 1개, 대기 작업 1개를 넣은 뒤 하나 더 요청
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(() -> { });
+
+        // then : 세 번째 작업은 거부되고, 대기열 길이와 거부 수가 기록됨
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+        assertEquals(1.0, meterRegistry.get("async.executor.queued").tag("executor", "test").gauge().value());
+        assertEquals(1.0, meterRegistry.get("async.task.rejected").tag("executor", "test").counter().count());
+
+        // then : 작업이 끝나면 실행된 두 작업의 대기 / 실행 시간이 기록됨
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2L, meterRegistry.get("async.task.execution").tag("executor", "test").timer().count());
+        assertEquals(2L, meterRegistry.get("async.task.wait").tag("executor", "test").timer().count());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.giftforyoube.global.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RestTemplateConfigTest {
+
+    private static final int REQUEST_COUNT = 50;
+
+    private HttpServer server;
+    // 요청을 보낸 클라이언트 포트 = 서버가 받은 TCP 연결
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 외부 API 대신 응답하는 로컬 스텁 서버
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/payment/approve", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "{\"amount\":{\"total\":5000}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("restTemplate 테스트 - 연속 호출 시 연결을 새로 맺지 않고 풀의 연결을 재사용")
+    void connectionReuseTest() throws Exception {
+        // given : 설정값이 적용된 풀 기반 RestTemplate
+        RestTemplateConfig config = new RestTemplateConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 10);
+        ReflectionTestUtils.setField(config, "maxPerRoute", 5);
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(config, "readTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(config, "poolWaitTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(config, "idleTimeoutSeconds", 30L);
+        PoolingHttpClientConnectionManager connectionManager = config.httpClientConnectionManager();
+        try (CloseableHttpClient httpClient = config.httpClient(connectionManager)) {
+            RestTemplate restTemplate = config.restTemplate(new RestTemplateBuilder(), httpClient);
+            String url = "http://localhost:" + server.getAddress().getPort() + "/v1/payment/approve";
+
+            // when : 같은 호스트로 연속 호출
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                restTemplate.postForObject(url, "{}", String.class);
+            }
+
+            // then : 모든 요청이 하나의 keep-alive 연결로 처리되고, 연결은 풀에 반환되어 대기 중
+            assertEquals(1, clientPorts.size());
+            assertEquals(1, connectionManager.getTotalStats().getAvailable());
+            assertEquals(0, connectionManager.getTotalStats().getLeased());
+        }
+    }
+}
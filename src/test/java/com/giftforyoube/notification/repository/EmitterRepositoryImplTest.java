@@ -0,0 +1,143 @@
+package com.giftforyoube.notification.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmitterRepositoryImplTest {
+
+    private final EmitterRepositoryImpl emitterRepository = new EmitterRepositoryImpl();
+
+    @Test
+    @DisplayName("findAllEmitterByUserId 테스트 - 회원 ID 앞부분이 같아도 다른 회원의 emitter / 이벤트는 조회되지 않음")
+    void findAllEmitterByUserIdTest() {
+        // given : 앞부분이 같은 두 회원의 연결과 이벤트
+        SseEmitter emitter = emitterRepository.save("a@x.com", "a@x.com_1", new SseEmitter());
+        emitterRepository.save("a@x.com.kr", "a@x.com.kr_1", new SseEmitter());
+        emitterRepository.saveEventCache("a@x.com", 2L, "event");
+        emitterRepository.saveEventCache("a@x.com.kr", 3L, "other event");
+
+        // when : a@x.com 의 emitter / 이벤트 조회
+        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterByUserId("a@x.com");
+        Map<Long, Object> events = emitterRepository.findAllEventCacheAfter("a@x.com", 0L);
+
+        // then : 해당 회원의 것만 조회됨
+        assertEquals(Map.of("a@x.com_1", emitter), emitters);
+        assertEquals(Map.of(2L, "event"), events);
+    }
+
+    @Test
+    @DisplayName("deleteById / saveEventCache 테스트 - 마지막 연결이 끊기면 회원 항목 삭제, 이벤트는 최근 것만 순서대로 보관")
+    void deleteByIdAndEventCacheTest() {
+        // given : 한 회원의 연결 두 개와 이벤트 150개
+        emitterRepository.save("user@example.com", "user@example.com_1", new SseEmitter());
+        emitterRepository.save("user@example.com", "user@example.com_2", new SseEmitter());
+        for (long i = 0; i < 150; i++) {
+            emitterRepository.saveEventCache("user@example.com", i, i);
+        }
+
+        // when : 연결 하나씩 삭제
+        emitterRepository.deleteById("user@example.com", "user@example.com_1");
+        int remainingCount = emitterRepository.findAllEmitterByUserId("user@example.com").size();
+        emitterRepository.deleteById("user@example.com", "user@example.com_2");
+
+        // then : 남은 연결 수가 줄어들고, 모두 끊기면 빈 결과 / 이벤트는 최근 100개가 오래된 순서로 남음
+        assertEquals(1, remainingCount);
+        assertTrue(emitterRepository.findAllEmitterByUserId("user@example.com").isEmpty());
+        Map<Long, Object> events = emitterRepository.findAllEventCacheAfter("user@example.com", -1L);
+        assertEquals(100, events.size());
+        assertEquals(50L, events.keySet().iterator().next());
+    }
+
+    @Test
+    @DisplayName("findAllEventCacheAfter / evictExpiredEventCache 테스트 - 자릿수가 다른 ID도 숫자 순서로 재전송하고, 보관 기간이 지나면 삭제")
+    void replayAndEvictTest() {
+        // given : 시각을 조정할 수 있는 저장소, 자릿수가 다른 이벤트 ID (9 < 10 < 11)
+        Clock clock = mock(Clock.class);
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        when(clock.millis()).thenReturn(start.toEpochMilli());
+        EmitterRepositoryImpl repository = new EmitterRepositoryImpl(clock);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        repository.bindTo(meterRegistry);
+        repository.saveEventCache("user@example.com", 9L, "event9");
+        repository.saveEventCache("user@example.com", 10L, "event10");
+        repository.saveEventCache("user@example.com", 11L, "event11");
+
+        // when : 마지막으로 받은 이벤트가 9일 때 재전송 대상 조회, 이후 보관 기간(10분)이 지난 뒤 정리
+        Map<Long, Object> missed = repository.findAllEventCacheAfter("user@example.com", 9L);
+        double eventsBeforeEvict = meterRegistry.get("sse.replay.events").gauge().value();
+        when(clock.millis()).thenReturn(start.plus(Duration.ofMinutes(11)).toEpochMilli());
+        int evictedCount = repository.evictExpiredEventCache();
+
+        // then : 9 이후의 10, 11만 순서대로 조회되고, 보관 기간이 지나면 모두 삭제되어 회원 항목도 사라짐
+        assertEquals(List.of(10L, 11L), List.copyOf(missed.keySet()));
+        assertEquals(3.0, eventsBeforeEvict);
+        assertEquals(3, evictedCount);
+        assertTrue(repository.findAllEventCacheAfter("user@example.com", 0L).isEmpty());
+        assertEquals(0.0, meterRegistry.get("sse.replay.users").gauge().value());
+        assertEquals(0.0, meterRegistry.get("sse.replay.events").gauge().value());
+        assertEquals(3.0, meterRegistry.get("sse.replay.evicted").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("findAllEventCacheAfter 테스트 - ID 순서와 다르게 저장된 이벤트도 빠짐없이 ID 순서로 재전송")
+    void replayOutOfOrderTest() {
+        // given : 다른 스레드 / 서버에서 발급되어 ID 순서와 다르게 저장된 이벤트 (5, 7, 6, 8)
+        emitterRepository.saveEventCache("user@example.com", 5L, "event5");
+        emitterRepository.saveEventCache("user@example.com", 7L, "event7");
+        emitterRepository.saveEventCache("user@example.com", 6L, "event6");
+        emitterRepository.saveEventCache("user@example.com", 8L, "event8");
+
+        // when : 마지막으로 받은 이벤트가 5일 때 재전송 대상 조회
+        Map<Long, Object> missed = emitterRepository.findAllEventCacheAfter("user@example.com", 5L);
+
+        // then : 6을 건너뛰지 않고 6, 7, 8 순서로 조회
+        assertEquals(List.of(6L, 7L, 8L), List.copyOf(missed.keySet()));
+        assertEquals("event6", missed.get(6L));
+    }
+
+    @Test
+    @DisplayName("save / reap 테스트 - 회원별 최대 연결 수를 넘으면 가장 오래된 연결을 종료하고, 끊어진 연결 정리 수를 기록")
+    void maxEmittersAndReapTest() {
+        // given : 지표를 등록한 저장소, 한 회원의 연결 6개 (최대 5개)
+        EmitterRepositoryImpl repository = new EmitterRepositoryImpl();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        repository.bindTo(meterRegistry);
+        SseEmitter oldest = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        repository.save("user@example.com", "user@example.com_1", oldest);
+        repository.save("user@example.com", "user@example.com_2", second);
+        for (int i = 3; i <= 6; i++) {
+            repository.save("user@example.com", "user@example.com_" + i, mock(SseEmitter.class));
+        }
+
+        // when : 끊어진 연결 하나 정리, 이미 삭제된 연결 정리 시도
+        repository.reap("user@example.com", "user@example.com_2");
+        repository.reap("user@example.com", "user@example.com_1");
+
+        // then : 가장 오래된 연결만 종료되어 삭제되고, 정리는 실제로 삭제된 연결만 기록
+        Map<String, SseEmitter> emitters = repository.findAllEmitterByUserId("user@example.com");
+        assertEquals(List.of("user@example.com_3", "user@example.com_4", "user@example.com_5", "user@example.com_6"),
+                List.copyOf(emitters.keySet()));
+        verify(oldest).complete();
+        verify(second, never()).complete();
+        assertEquals(4.0, meterRegistry.get("sse.emitters.active").gauge().value());
+        assertEquals(1.0, meterRegistry.get("sse.emitters.users").gauge().value());
+        assertEquals(1.0, meterRegistry.get("sse.emitters.evicted").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("sse.emitters.reaped").functionCounter().count());
+    }
+}
@@ -0,0 +1,249 @@
+package com.giftforyoube.notification.service;
+
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import com.giftforyoube.notification.entity.Notification;
+import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.entity.PendingMail;
+import com.giftforyoube.notification.repository.PendingMailRepository;
+import com.giftforyoube.user.entity.User;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailingServiceTest {
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @Mock
+    private SpringTemplateEngine templateEngine;
+
+    @Mock
+    private PendingMailRepository pendingMailRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("sendMail 테스트 - 메일 전송 스레드 풀이 거부하면 인증 코드를 저장하지 않고 실패 응답")
+    void sendMailRejectedTest() {
+        // given : 모든 작업을 거부하는 메일 전송 스레드 풀
+        TaskExecutor rejectingExecutor = task -> {
+            throw new TaskRejectedException("mail executor is full");
+        };
+        MailingService mailingService = mailingService(rejectingExecutor);
+
+        // when & then : EMAIL_SEND_FAILED, 메일은 전송되지 않고 재시도 큐에도 저장되지 않음
+        BaseException exception = assertThrows(BaseException.class, () -> mailingService.sendMail("user@example.com"));
+        assertEquals(BaseResponseStatus.EMAIL_SEND_FAILED, exception.getStatus());
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+        verifyNoInteractions(pendingMailRepository);
+    }
+
+    @Test
+    @DisplayName("sendMail 테스트 - SMTP 전송에 실패하면 재시도 큐에 저장하지 않고 실패 응답")
+    void sendMailFailureTest() {
+        // given : 바로 실행하는 스레드 풀, 전송에 실패하는 SMTP
+        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        when(templateEngine.process(eq("EmailTemplateSignup"), any(IContext.class))).thenReturn("<html></html>");
+        doThrow(new MailSendException("Connection refused")).when(javaMailSender).send(any(MimeMessage.class));
+        MailingService mailingService = mailingService(new SyncTaskExecutor());
+
+        // when & then : EMAIL_SEND_FAILED, 재시도 큐에 저장되지 않음
+        BaseException exception = assertThrows(BaseException.class, () -> mailingService.sendMail("user@example.com"));
+        assertEquals(BaseResponseStatus.EMAIL_SEND_FAILED, exception.getStatus());
+        assertEquals(1.0, meterRegistry.get("mail.failed").counter().count());
+        verifyNoInteractions(pendingMailRepository);
+    }
+
+    @Test
+    @DisplayName("sendMail 테스트 - 제한 시간 안에 전송이 시작되지 않으면 취소하고 실패 응답, 취소된 작업은 나중에 실행되어도 보내지 않음")
+    void sendMailQueuedTimeoutTest() {
+        // given : 작업을 대기열에만 쌓고 실행하지 않는 스레드 풀, 짧은 제한 시간
+        List<Runnable> queuedTasks = new ArrayList<>();
+        MailingService mailingService = mailingService(queuedTasks::add);
+        ReflectionTestUtils.setField(mailingService, "authMailTimeoutMillis", 50L);
+
+        // when : 제한 시간이 지난 뒤 대기열의 작업이 실행됨
+        BaseException exception = assertThrows(BaseException.class, () -> mailingService.sendMail("user@example.com"));
+        queuedTasks.forEach(Runnable::run);
+
+        // then : EMAIL_SEND_FAILED, 메일은 전송되지 않음
+        assertEquals(BaseResponseStatus.EMAIL_SEND_FAILED, exception.getStatus());
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+    }
+
+    @Test
+    @DisplayName("sendMail 테스트 - 제한 시간이 지났어도 이미 전송 중이면 결과를 기다려 성공 응답")
+    void sendMailRunningTimeoutTest() {
+        // given : 별도 스레드에서 실행하는 스레드 풀, 제한 시간보다 오래 걸리는 SMTP 전송
+        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        when(templateEngine.process(eq("EmailTemplateSignup"), any(IContext.class))).thenReturn("<html></html>");
+        doAnswer(invocation -> {
+            Thread.sleep(300);
+            return null;
+        }).when(javaMailSender).send(any(MimeMessage.class));
+        MailingService mailingService = mailingService(task -> new Thread(task).start());
+        ReflectionTestUtils.setField(mailingService, "authMailTimeoutMillis", 50L);
+
+        // when : 인증 메일 전송
+        int authenticationCode = mailingService.sendMail("user@example.com");
+
+        // then : 전송 완료 후 인증 코드 반환
+        assertTrue(authenticationCode >= 1000 && authenticationCode <= 9999);
+        verify(javaMailSender, times(1)).send(any(MimeMessage.class));
+        assertEquals(1.0, meterRegistry.get("mail.sent").counter().count());
+    }
+
+    @Test
+    @DisplayName("retryPendingMails 테스트 - 재시도 큐의 메일을 전송하고 큐에서 삭제")
+    void retryPendingMailsTest() {
+        // given : 재시도 큐에 저장된 메일 하나, 바로 실행하는 스레드 풀
+        PendingMail pendingMail = new PendingMail("user@example.com", "[Giftipie] 제목", "EmailTemplateDonation");
+        ReflectionTestUtils.setField(pendingMail, "id", 1L);
+        when(pendingMailRepository.findRetryable(any(LocalDateTime.class), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(pendingMail));
+        when(pendingMailRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        when(templateEngine.process(anyString(), any(IContext.class))).thenReturn("<html></html>");
+        MailingService mailingService = mailingService(new SyncTaskExecutor());
+
+        // when : 재시도 실행
+        int retriedCount = mailingService.retryPendingMails();
+
+        // then : 선점한 메일이 전송되고 재시도 큐에서 삭제됨
+        assertEquals(1, retriedCount);
+        verify(javaMailSender, times(1)).send(any(MimeMessage[].class));
+        verify(pendingMailRepository, times(1)).deleteById(1L);
+    }
+
+    @Test
+    @DisplayName("retryPendingMails 테스트 - 다른 서버가 먼저 선점한 메일은 전송하지 않음")
+    void retryPendingMailsClaimedTest() {
+        // given : 재시도 큐의 메일 두 건 중 1은 다른 서버가 먼저 선점, 바로 실행하는 스레드 풀
+        PendingMail claimedElsewhere = new PendingMail("user1@example.com", "[Giftipie] 제목", "EmailTemplateDonation");
+        ReflectionTestUtils.setField(claimedElsewhere, "id", 1L);
+        PendingMail pendingMail = new PendingMail("user2@example.com", "[Giftipie] 제목", "EmailTemplateDonation");
+        ReflectionTestUtils.setField(pendingMail, "id", 2L);
+        when(pendingMailRepository.findRetryable(any(LocalDateTime.class), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(claimedElsewhere, pendingMail));
+        when(pendingMailRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+        when(pendingMailRepository.claim(eq(2L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        when(templateEngine.process(anyString(), any(IContext.class))).thenReturn("<html></html>");
+        MailingService mailingService = mailingService(new SyncTaskExecutor());
+
+        // when : 재시도 실행
+        int retriedCount = mailingService.retryPendingMails();
+
+        // then : 선점한 2만 한 건 전송하고 삭제, 1은 건드리지 않음
+        assertEquals(1, retriedCount);
+        verify(javaMailSender, times(1)).createMimeMessage();
+        verify(javaMailSender, times(1)).send(any(MimeMessage[].class));
+        verify(pendingMailRepository, times(1)).deleteById(2L);
+        verify(pendingMailRepository, never()).deleteById(1L);
+        verify(pendingMailRepository, never()).save(any(PendingMail.class));
+    }
+
+    @Test
+    @DisplayName("sendNotificationEmail 테스트 - 쌓인 알림 메일을 묶음 단위로 SMTP 연결 하나에 전송하고, 템플릿은 한 번만 렌더링")
+    void sendNotificationEmailBatchTest() {
+        // given : 로컬 SMTP 서버, 실제 메일 발송기 / 템플릿 엔진, 요청된 전송 작업을 모아두었다가 나중에 실행하는 스레드 풀
+        GreenMail greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+        try {
+            JavaMailSenderImpl smtpMailSender = new JavaMailSenderImpl();
+            smtpMailSender.setHost("localhost");
+            smtpMailSender.setPort(ServerSetupTest.SMTP.getPort());
+            SpringTemplateEngine smtpTemplateEngine = spy(templateEngine());
+            List<Runnable> sendTasks = new ArrayList<>();
+            MailingService mailingService = new MailingService(smtpMailSender, smtpTemplateEngine, pendingMailRepository, sendTasks::add, new SyncTaskExecutor(), meterRegistry);
+            ReflectionTestUtils.setField(mailingService, "senderEmail", "sender@example.com");
+
+            // when : 후원 알림 메일 100건 요청 후 전송 작업 실행
+            for (int i = 0; i < 100; i++) {
+                mailingService.sendNotificationEmail(notification("user" + i + "@example.com"));
+            }
+            sendTasks.forEach(Runnable::run);
+
+            // then : 100건 모두 수신, 50건씩 두 묶음으로 전송, 본문 템플릿은 한 번만 렌더링, 재시도 큐는 사용하지 않음
+            assertTrue(greenMail.waitForIncomingEmail(10000, 100));
+            assertEquals(100, greenMail.getReceivedMessages().length);
+            assertEquals(2L, meterRegistry.get("mail.batch.size").summary().count());
+            assertEquals(100.0, meterRegistry.get("mail.sent").counter().count());
+            verify(smtpTemplateEngine, times(1)).process(eq("EmailTemplateDonation"), any(IContext.class));
+            verify(pendingMailRepository, never()).save(any(PendingMail.class));
+        } finally {
+            greenMail.stop();
+        }
+    }
+
+    // 알림 메일 / 인증 메일 모두 같은 스레드 풀로 실행
+    private MailingService mailingService(TaskExecutor taskExecutor) {
+        MailingService mailingService = new MailingService(javaMailSender, templateEngine, pendingMailRepository, taskExecutor, taskExecutor, meterRegistry);
+        ReflectionTestUtils.setField(mailingService, "senderEmail", "sender@example.com");
+        ReflectionTestUtils.setField(mailingService, "authMailTimeoutMillis", 10000L);
+        return mailingService;
+    }
+
+    private SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine springTemplateEngine = new SpringTemplateEngine();
+        springTemplateEngine.setTemplateResolver(templateResolver);
+        return springTemplateEngine;
+    }
+
+    private Notification notification(String email) {
+        User receiver = User.builder()
+                .email(email)
+                .password("password")
+                .nickname("nickname")
+                .isEmailNotificationAgreed(true)
+                .build();
+        return Notification.builder()
+                .receiver(receiver)
+                .notificationType(NotificationType.DONATION)
+                .content("후원이 도착했습니다.")
+                .url("test.com")
+                .isRead(false)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.giftforyoube.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.giftforyoube.notification.dto.MessageResponseDto;
+import com.giftforyoube.notification.dto.NotificationEventDto;
+import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.entity.RelatedUrl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.Codec;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPublisherTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic topic;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("publish 테스트 - 한 서버에서 발행한 알림을 사용자별로 묶어 한 번에 발행하고, 모든 서버가 수신")
+    @SuppressWarnings("unchecked")
+    void publishTest() {
+        // given : 같은 Redis 채널을 구독하는 두 서버
+        List<MessageListener<String>> subscribers = new ArrayList<>();
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+        when(topic.addListener(eq(String.class), any(MessageListener.class))).thenAnswer(invocation -> {
+            subscribers.add(invocation.getArgument(1));
+            return subscribers.size();
+        });
+        when(topic.publish(any())).thenAnswer(invocation -> {
+            String message = invocation.getArgument(0);
+            subscribers.forEach(subscriber -> subscriber.onMessage("sseNotification", message));
+            return (long) subscribers.size();
+        });
+        NotificationPublisher nodeA = new NotificationPublisher(redissonClient, objectMapper);
+        NotificationPublisher nodeB = new NotificationPublisher(redissonClient, objectMapper);
+        List<Map<String, List<NotificationEventDto>>> receivedByA = new ArrayList<>();
+        List<Map<String, List<NotificationEventDto>>> receivedByB = new ArrayList<>();
+        nodeA.addListener(receivedByA::add);
+        nodeB.addListener(receivedByB::add);
+        nodeA.subscribe();
+        nodeB.subscribe();
+
+        // when : A 서버에서 user1 에게 알림 3건, user2 에게 1건 발행 후 발행 주기 도래
+        nodeA.publish("user1@example.com", 1L, message(1L));
+        nodeA.publish("user2@example.com", 2L, message(2L));
+        nodeA.publish("user1@example.com", 3L, message(3L));
+        nodeA.publish("user1@example.com", 4L, message(4L));
+        nodeA.flush();
+
+        // then : Redis 발행은 한 번, 두 서버 모두 사용자별로 묶인 알림을 순서대로 받음
+        verify(topic, times(1)).publish(any());
+        assertEquals(1, receivedByA.size());
+        assertEquals(1, receivedByB.size());
+        Map<String, List<NotificationEventDto>> batch = receivedByB.get(0);
+        assertEquals(List.of(1L, 3L, 4L), batch.get("user1@example.com").stream().map(NotificationEventDto::getEventId).toList());
+        assertEquals(1, batch.get("user2@example.com").size());
+        assertEquals("message2", batch.get("user2@example.com").get(0).getMessage().getMessage());
+    }
+
+    private MessageResponseDto message(Long id) {
+        return new MessageResponseDto(id, "message" + id, new RelatedUrl("test.com"),
+                NotificationType.DONATION, false, LocalDateTime.now());
+    }
+}
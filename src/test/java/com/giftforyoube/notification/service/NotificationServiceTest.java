@@ -1,5 +1,6 @@
 package com.giftforyoube.notification.service;
 
+import com.giftforyoube.notification.dto.MessageResponseDto;
 import com.giftforyoube.notification.dto.NotificationResponseDto;
 import com.giftforyoube.notification.entity.Notification;
 import com.giftforyoube.notification.entity.NotificationType;
@@ -17,14 +18,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +44,12 @@ class NotificationServiceTest {
     @Mock
     private MailingService mailingService;
 
+    @Mock
+    private NotificationPublisher notificationPublisher;
+
+    @Mock
+    private SseDispatcher sseDispatcher;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -79,7 +90,7 @@ class NotificationServiceTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         String username = "testUser";
         String lastEventId = "0";
-        when(emitterRepository.save(anyString(), any(SseEmitter.class))).thenAnswer(i -> i.getArguments()[1]);
+        when(emitterRepository.save(anyString(), anyString(), any(SseEmitter.class))).thenAnswer(i -> i.getArguments()[2]);
 
         // when : sseSubscribe 메서드 실행
         SseEmitter emitter = notificationService.sseSubscribe(username, lastEventId, response);
@@ -90,12 +101,34 @@ class NotificationServiceTest {
         assertEquals("no", response.getHeader("X-Accel-Buffering"), "Header X-Accel-Buffering 헤더 'no' 체크완료");
     }
 
+    @Test
+    @DisplayName("sseSubscribe 테스트 - 구독 이벤트와 놓친 이벤트를 전송 대기열에 순서대로 넣은 뒤 연결 등록")
+    void sseSubscribeReplayTest() {
+        // given : 마지막으로 받은 이벤트 5 이후 보관 중인 이벤트 6, 7
+        Map<Long, Object> missed = new LinkedHashMap<>();
+        missed.put(6L, "event6");
+        missed.put(7L, "event7");
+        when(emitterRepository.findAllEventCacheAfter("user@example.com", 5L)).thenReturn(missed);
+        List<String> enqueuedIds = new ArrayList<>();
+        doAnswer(invocation -> enqueuedIds.add(eventId(invocation.getArgument(3))))
+                .when(sseDispatcher).enqueue(eq("user@example.com"), anyString(), any(SseEmitter.class), any(SseEmitter.SseEventBuilder.class));
+
+        // when : Last-Event-ID 5로 재연결
+        SseEmitter emitter = notificationService.sseSubscribe("user@example.com", "5", new MockHttpServletResponse());
+
+        // then : 구독 이벤트 -> 6 -> 7 순서로 대기열에 넣고, 그 뒤에 연결을 등록하여 실시간 알림은 재전송 뒤에 전송됨
+        assertEquals(3, enqueuedIds.size());
+        assertEquals(List.of("6", "7"), enqueuedIds.subList(1, 3));
+        var inOrder = inOrder(sseDispatcher, emitterRepository);
+        inOrder.verify(sseDispatcher, times(3)).enqueue(eq("user@example.com"), anyString(), eq(emitter), any(SseEmitter.SseEventBuilder.class));
+        inOrder.verify(emitterRepository).save(eq("user@example.com"), anyString(), eq(emitter));
+    }
+
     @Test
     @DisplayName("send 테스트 - 알림발생, 전송, 메일발송")
     void sendTest() throws MessagingException {
         // given : 알림 객체를 DB에 저장하고, 이메일 전송을 임의로 설정
         when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
-        when(emitterRepository.findAllEmitterStartWithByUserId(anyString())).thenReturn(Collections.emptyMap());
         doNothing().when(mailingService).sendNotificationEmail(any(Notification.class));
 
         // when : send 메서드 실행
@@ -105,8 +138,39 @@ class NotificationServiceTest {
         verify(notificationRepository, times(1)).save(any(Notification.class));
         // then : 이메일이 전송되었는지 확인
         verify(mailingService, times(1)).sendNotificationEmail(any(Notification.class));
-        // then : SSE Emitter 저장소가 조회되었는지 확인
-        verify(emitterRepository, times(1)).findAllEmitterStartWithByUserId(receiver.getEmail());
+        // then : 모든 서버로 알림이 발행되었는지 확인
+        verify(notificationPublisher, times(1)).publish(eq(receiver.getEmail()), anyLong(), any(MessageResponseDto.class));
+    }
+
+    @Test
+    @DisplayName("sendHeartbeat 테스트 - 소켓에 직접 쓰지 않고 모든 연결의 전송 대기열에 하트비트를 넣음")
+    void sendHeartbeatTest() {
+        // given : 한 회원의 연결 두 개
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        Map<String, SseEmitter> emitters = new LinkedHashMap<>();
+        emitters.put("user@example.com_1", first);
+        emitters.put("user@example.com_2", second);
+        when(emitterRepository.findAllEmitters()).thenReturn(Map.of("user@example.com", emitters));
+
+        // when : 하트비트 전송
+        int heartbeatCount = notificationService.sendHeartbeat();
+
+        // then : 두 연결 모두 전송 대기열에 넣고, 스케줄러 스레드에서는 emitter에 직접 쓰지 않음
+        assertEquals(2, heartbeatCount);
+        verify(sseDispatcher, times(1)).enqueue(eq("user@example.com"), eq("user@example.com_1"), eq(first), any(SseEmitter.SseEventBuilder.class));
+        verify(sseDispatcher, times(1)).enqueue(eq("user@example.com"), eq("user@example.com_2"), eq(second), any(SseEmitter.SseEventBuilder.class));
+        verifyNoInteractions(first, second);
+    }
+
+    // SSE 이벤트의 id 필드 값
+    private String eventId(SseEmitter.SseEventBuilder event) {
+        return event.build().stream()
+                .map(data -> String.valueOf(data.getData()))
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring(3).lines().findFirst().orElse(""))
+                .findFirst()
+                .orElse(null);
     }
 
     @Test
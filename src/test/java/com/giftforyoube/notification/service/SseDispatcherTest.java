@@ -0,0 +1,94 @@
+package com.giftforyoube.notification.service;
+
+import com.giftforyoube.notification.repository.EmitterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SseDispatcherTest {
+
+    @Mock
+    private EmitterRepository emitterRepository;
+
+    // 전송 작업을 바로 실행하지 않고 모아두는 스레드 풀 (테스트에서 원하는 시점에 실행)
+    private final List<Runnable> tasks = new ArrayList<>();
+    private SseDispatcher sseDispatcher;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sseDispatcher = new SseDispatcher(emitterRepository, tasks::add);
+        meterRegistry = new SimpleMeterRegistry();
+        sseDispatcher.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("enqueue 테스트 - 연결별로 작업 하나만 예약하여 순서대로 전송하고, 끊어진 연결은 정리")
+    void enqueueTest() throws IOException {
+        // given : 정상 연결과 끊어진 연결에 이벤트 두 개씩
+        SseEmitter alive = mock(SseEmitter.class);
+        SseEmitter dead = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(dead).send(any(SseEmitter.SseEventBuilder.class));
+        SseEmitter.SseEventBuilder firstEvent = SseEmitter.event().id("1");
+        SseEmitter.SseEventBuilder secondEvent = SseEmitter.event().id("2");
+        sseDispatcher.enqueue("a@x.com", "a@x.com_1", alive, firstEvent);
+        sseDispatcher.enqueue("a@x.com", "a@x.com_1", alive, secondEvent);
+        sseDispatcher.enqueue("b@x.com", "b@x.com_1", dead, firstEvent);
+        sseDispatcher.enqueue("b@x.com", "b@x.com_1", dead, secondEvent);
+
+        // when : 예약된 전송 작업 실행
+        int scheduledCount = tasks.size();
+        runTasks();
+
+        // then : 연결별로 작업 하나씩 예약, 정상 연결은 순서대로 전송, 끊어진 연결은 한 번만 시도하고 정리
+        assertEquals(2, scheduledCount);
+        var inOrder = inOrder(alive);
+        inOrder.verify(alive).send(firstEvent);
+        inOrder.verify(alive).send(secondEvent);
+        verify(dead, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitterRepository, times(1)).reap("b@x.com", "b@x.com_1");
+        verify(emitterRepository, never()).reap("a@x.com", "a@x.com_1");
+        assertEquals(0.0, meterRegistry.get("sse.outbound.queued").gauge().value());
+    }
+
+    @Test
+    @DisplayName("enqueue 테스트 - 전송 대기열이 가득 찬 느린 연결은 이벤트를 버리고 전송 스레드 풀에서 종료")
+    void slowConnectionTest() {
+        // given : 전송되지 않는 연결에 대기열 크기(200)를 넘는 이벤트
+        SseEmitter slow = mock(SseEmitter.class);
+        for (int i = 0; i < 201; i++) {
+            sseDispatcher.enqueue("user@example.com", "user@example.com_1", slow, SseEmitter.event().id(String.valueOf(i)));
+        }
+
+        // when : 예약된 작업 실행
+        runTasks();
+
+        // then : 이벤트를 보내지 않고 저장소에서 삭제 후 연결 종료, 버린 이벤트 수 기록
+        verify(emitterRepository, times(1)).deleteById("user@example.com", "user@example.com_1");
+        verify(slow, times(1)).complete();
+        assertEquals(201.0, meterRegistry.get("sse.outbound.dropped").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("sse.outbound.slow.disconnected").functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("sse.outbound.connections").gauge().value());
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.giftforyoube.scheduler;
+
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.funding.repository.FundingRepository;
+import com.giftforyoube.funding.service.CacheService;
+import com.giftforyoube.funding.service.FundingFeedService;
+import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.service.NotificationService;
+import com.giftforyoube.user.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerTest {
+
+    @Mock
+    private FundingRepository fundingRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private FundingFeedService fundingFeedService;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock autoFinishLock;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private Scheduler scheduler;
+
+    @Test
+    @DisplayName("autoFinishFundings 테스트 - 묶음 단위 일괄 종료 후 알림은 비동기로 전달")
+    void autoFinishFundingsTest() throws InterruptedException {
+        // given : 마감된 진행중 펀딩이 두 묶음으로 조회됨 (1, 2 / 3)
+        givenAutoFinishLock(true);
+        when(fundingRepository.findIdsByEndDateLessThanEqualAndStatus(any(LocalDate.class), eq(FundingStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(fundingRepository.updateStatusByIdIn(anyList(), eq(FundingStatus.ACTIVE), eq(FundingStatus.FINISHED), any(LocalDateTime.class)))
+                .thenReturn(2, 1);
+        List<Funding> firstChunk = List.of(funding(1L, true), funding(2L, false));
+        List<Funding> secondChunk = List.of(funding(3L, true));
+        when(fundingRepository.findAllWithUserByIdInAndStatusAndModifiedAt(eq(List.of(1L, 2L)), eq(FundingStatus.FINISHED), any(LocalDateTime.class)))
+                .thenReturn(firstChunk);
+        when(fundingRepository.findAllWithUserByIdInAndStatusAndModifiedAt(eq(List.of(3L)), eq(FundingStatus.FINISHED), any(LocalDateTime.class)))
+                .thenReturn(secondChunk);
+
+        // when : 스케줄러 실행
+        scheduler.autoFinishFundings();
+
+        // then : 묶음마다 일괄 UPDATE 한 번, 수신 동의한 소유자에게만 비동기 알림, 캐시 무효화는 마지막에 한 번
+        verify(fundingRepository, times(2)).updateStatusByIdIn(anyList(), any(), any(), any());
+        verify(fundingRepository, never()).save(any());
+        verify(notificationService, times(2)).sendAsync(any(User.class), eq(NotificationType.FUNDING_TIME_OUT), anyString(), anyString());
+        verify(notificationService, never()).send(any(), any(), anyString(), anyString());
+        verify(cacheService, times(1)).clearFundingCaches();
+        assertEquals(3.0, meterRegistry.get("funding.autofinish.finished").counter().count());
+        assertEquals(2L, meterRegistry.get("funding.autofinish.chunk").timer().count());
+        verify(autoFinishLock).unlock();
+    }
+
+    @Test
+    @DisplayName("autoFinishFundings 테스트 - UPDATE 에 넘긴 시각으로 찍힌 행만 다시 조회하여 알림")
+    void autoFinishFundingsStampTest() throws InterruptedException {
+        // given : 1, 2 중 2는 다른 실행에서 이미 종료되어 이번 UPDATE 로 바뀐 행은 1 하나
+        givenAutoFinishLock(true);
+        when(fundingRepository.findIdsByEndDateLessThanEqualAndStatus(any(LocalDate.class), eq(FundingStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of());
+        when(fundingRepository.updateStatusByIdIn(anyList(), eq(FundingStatus.ACTIVE), eq(FundingStatus.FINISHED), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(fundingRepository.findAllWithUserByIdInAndStatusAndModifiedAt(anyList(), eq(FundingStatus.FINISHED), any(LocalDateTime.class)))
+                .thenReturn(List.of(funding(1L, true)));
+
+        // when : 스케줄러 실행
+        scheduler.autoFinishFundings();
+
+        // then : UPDATE 와 재조회에 같은 시각을 넘기고, 이번에 종료된 1에만 알림
+        ArgumentCaptor<LocalDateTime> updatedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> reloadedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(fundingRepository).updateStatusByIdIn(eq(List.of(1L, 2L)), eq(FundingStatus.ACTIVE), eq(FundingStatus.FINISHED), updatedAt.capture());
+        verify(fundingRepository).findAllWithUserByIdInAndStatusAndModifiedAt(eq(List.of(1L, 2L)), eq(FundingStatus.FINISHED), reloadedAt.capture());
+        assertEquals(updatedAt.getValue(), reloadedAt.getValue());
+        verify(notificationService, times(1)).sendAsync(any(User.class), eq(NotificationType.FUNDING_TIME_OUT), anyString(), eq("https://giftipie.me/fundingdetail/1"));
+    }
+
+    @Test
+    @DisplayName("autoFinishFundings 테스트 - 다른 서버가 락을 잡고 있으면 아무것도 하지 않음")
+    void autoFinishFundingsLockedTest() throws InterruptedException {
+        // given : 다른 서버가 마감 처리 중
+        givenAutoFinishLock(false);
+
+        // when : 스케줄러 실행
+        scheduler.autoFinishFundings();
+
+        // then : 조회 / UPDATE / 알림 없음
+        verifyNoInteractions(fundingRepository, notificationService, fundingFeedService, cacheService);
+        verify(autoFinishLock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("autoFinishFundings 테스트 - 바뀐 행이 없는 묶음은 다시 조회하지 않음")
+    void autoFinishFundingsNoUpdateTest() throws InterruptedException {
+        // given : 조회 직후 다른 실행이 모두 종료하여 이번 UPDATE 결과가 0건
+        givenAutoFinishLock(true);
+        when(fundingRepository.findIdsByEndDateLessThanEqualAndStatus(any(LocalDate.class), eq(FundingStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(1L), List.of());
+        when(fundingRepository.updateStatusByIdIn(anyList(), eq(FundingStatus.ACTIVE), eq(FundingStatus.FINISHED), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // when : 스케줄러 실행
+        scheduler.autoFinishFundings();
+
+        // then : 재조회 / 알림 / 캐시 무효화 없음
+        verify(fundingRepository, never()).findAllWithUserByIdInAndStatusAndModifiedAt(anyList(), any(), any());
+        verify(notificationService, never()).sendAsync(any(), any(), anyString(), anyString());
+        verify(cacheService, never()).clearFundingCaches();
+    }
+
+    private void givenAutoFinishLock(boolean acquired) throws InterruptedException {
+        when(redissonClient.getLock("autoFinishFundingsLock")).thenReturn(autoFinishLock);
+        when(autoFinishLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(acquired);
+        if (acquired) {
+            when(autoFinishLock.isLocked()).thenReturn(true);
+            when(autoFinishLock.isHeldByCurrentThread()).thenReturn(true);
+        }
+    }
+
+    private Funding funding(Long id, boolean emailAgreed) {
+        Funding funding = Funding.builder()
+                .title("title")
+                .targetAmount(10000)
+                .publicFlag(true)
+                .endDate(LocalDate.now())
+                .status(FundingStatus.FINISHED)
+                .build();
+        funding.setId(id);
+        User user = mock(User.class);
+        when(user.getIsEmailNotificationAgreed()).thenReturn(emailAgreed);
+        funding.setUser(user);
+        return funding;
+    }
+}